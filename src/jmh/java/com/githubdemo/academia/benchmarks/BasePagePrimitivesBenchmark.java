@@ -0,0 +1,44 @@
+package com.githubdemo.academia.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+// BasePage.visible/clickable/clickFirstVisible, with a warm element cache and with a fresh page object.
+@State(Scope.Benchmark)
+public class BasePagePrimitivesBenchmark extends BrowserBenchmark {
+    private static final By GET_STARTED_LINK = By.cssSelector("a[href='/docs/intro']");
+    private static final By COUNTER_BUTTON = By.id("counter");
+
+    private FixturePage cachedPage;
+
+    @Override
+    protected String fixture() {
+        return "playwright-home.html";
+    }
+
+    @Benchmark
+    public WebElement visibleCached() {
+        if (cachedPage == null) {
+            cachedPage = new FixturePage(driver);
+        }
+        return cachedPage.visibleElement(GET_STARTED_LINK);
+    }
+
+    @Benchmark
+    public WebElement visibleUncached() {
+        return new FixturePage(driver).visibleElement(GET_STARTED_LINK);
+    }
+
+    @Benchmark
+    public WebElement clickableUncached() {
+        return new FixturePage(driver).clickableElement(COUNTER_BUTTON);
+    }
+
+    @Benchmark
+    public void clickFirstVisible() {
+        new FixturePage(driver).clickFirst(COUNTER_BUTTON);
+    }
+}
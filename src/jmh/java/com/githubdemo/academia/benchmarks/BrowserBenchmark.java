@@ -0,0 +1,66 @@
+package com.githubdemo.academia.benchmarks;
+
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import com.githubdemo.academia.bestpractices.DriverBootstrap;
+
+// Shared trial setup: one headless Chrome per benchmark class, pointed at a local HTML fixture so
+// results measure the WebDriver strategy and not network latency. Fixed fork/warmup/measurement
+// settings keep target/jmh-result.json comparable across commits (see JmhResultDiff).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class BrowserBenchmark {
+    protected WebDriver driver;
+
+    // File name under src/jmh/resources/fixtures.
+    protected abstract String fixture();
+
+    @Setup(Level.Trial)
+    public void launchBrowser() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--window-size=1920,1080");
+        DriverBootstrap.apply(options);
+        driver = new ChromeDriver(options);
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        driver.get(fixtureUrl(fixture()));
+    }
+
+    @TearDown(Level.Trial)
+    public void quitBrowser() {
+        if (driver != null) {
+            driver.quit();
+        }
+    }
+
+    static String fixtureUrl(String name) {
+        URL resource = BrowserBenchmark.class.getResource("/fixtures/" + name);
+        if (resource == null) {
+            throw new IllegalStateException("Missing benchmark fixture: " + name);
+        }
+        try {
+            return Paths.get(resource.toURI()).toUri().toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
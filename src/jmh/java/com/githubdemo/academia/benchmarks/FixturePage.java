@@ -0,0 +1,26 @@
+package com.githubdemo.academia.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.githubdemo.academia.bestpractices.BasePage;
+
+// Exposes the protected BasePage primitives so they can be benchmarked as-is.
+public class FixturePage extends BasePage {
+    public FixturePage(WebDriver driver) {
+        super(driver);
+    }
+
+    public WebElement visibleElement(By locator) {
+        return visible(locator);
+    }
+
+    public WebElement clickableElement(By locator) {
+        return clickable(locator);
+    }
+
+    public void clickFirst(By locator) {
+        clickFirstVisible(locator);
+    }
+}
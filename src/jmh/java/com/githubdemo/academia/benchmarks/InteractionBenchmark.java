@@ -0,0 +1,42 @@
+package com.githubdemo.academia.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+// Native click() vs the arguments[0].click() fallback used in Contact/Traineri, on a resolved element.
+@State(Scope.Benchmark)
+public class InteractionBenchmark extends BrowserBenchmark {
+    private WebElement counter;
+
+    @Override
+    protected String fixture() {
+        return "playwright-home.html";
+    }
+
+    @Setup(Level.Iteration)
+    public void resolveButton() {
+        counter = driver.findElement(By.id("counter"));
+    }
+
+    @Benchmark
+    public void nativeClick() {
+        counter.click();
+    }
+
+    @Benchmark
+    public Object javascriptClick() {
+        return ((JavascriptExecutor) driver).executeScript("arguments[0].click();", counter);
+    }
+
+    @Benchmark
+    public void scrollIntoViewThenNativeClick() {
+        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center', inline:'center'});", counter);
+        counter.click();
+    }
+}
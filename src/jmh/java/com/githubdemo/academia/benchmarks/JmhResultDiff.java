@@ -0,0 +1,49 @@
+package com.githubdemo.academia.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+
+// Compares two JMH JSON results (e.g. the jmh-result.json of two commits):
+//   java -cp <test classpath> com.githubdemo.academia.benchmarks.JmhResultDiff base.json candidate.json
+public final class JmhResultDiff {
+    private JmhResultDiff() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: JmhResultDiff <base.json> <candidate.json>");
+            System.exit(2);
+        }
+        Map<String, Double> base = scores(Paths.get(args[0]));
+        Map<String, Double> candidate = scores(Paths.get(args[1]));
+        System.out.printf("%-80s %12s %12s %8s%n", "benchmark", "base", "candidate", "delta");
+        for (Map.Entry<String, Double> entry : candidate.entrySet()) {
+            Double before = base.get(entry.getKey());
+            String delta = before == null || before == 0 ? "new"
+                    : String.format("%+.1f%%", (entry.getValue() - before) / before * 100);
+            System.out.printf("%-80s %12s %12.3f %8s%n", entry.getKey(),
+                    before == null ? "-" : String.format("%.3f", before), entry.getValue(), delta);
+        }
+    }
+
+    private static Map<String, Double> scores(Path file) throws IOException {
+        List<Map<String, Object>> runs = new Json().toType(Files.readString(file, StandardCharsets.UTF_8),
+                new TypeToken<List<Map<String, Object>>>() {
+                }.getType());
+        Map<String, Double> scores = new TreeMap<>();
+        for (Map<String, Object> run : runs) {
+            Map<?, ?> metric = (Map<?, ?>) run.get("primaryMetric");
+            scores.put((String) run.get("benchmark"), ((Number) metric.get("score")).doubleValue());
+        }
+        return scores;
+    }
+}
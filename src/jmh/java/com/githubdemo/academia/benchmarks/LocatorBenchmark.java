@@ -0,0 +1,65 @@
+package com.githubdemo.academia.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+// CSS vs XPath for the locators the academia tests actually use.
+@State(Scope.Benchmark)
+public class LocatorBenchmark extends BrowserBenchmark {
+    private static final By CONTACT_CSS = By.cssSelector("a.elementor-item[href='https://academiatestarii.ro/contact/']");
+    private static final By CONTACT_XPATH = By.xpath("//a[contains(@class,'elementor-item') and @href='https://academiatestarii.ro/contact/']");
+    private static final By TRIMITE_XPATH = By.xpath("//span[@class='elementor-button-text' and normalize-space()='Trimite']");
+    private static final By TRIMITE_CSS = By.cssSelector("form.elementor-form button[type='submit'] span.elementor-button-text");
+    private static final By SIGN_IN_HEADER_DEEP_CSS = By.cssSelector("#wrapper > div.masterstudy__login-page > div > div > div.masterstudy-authorization__wrapper > div.masterstudy-authorization__header > span");
+    private static final By SIGN_IN_HEADER_SHORT_CSS = By.cssSelector(".masterstudy-authorization__header > span");
+    private static final By PHONE_XPATH = By.xpath("//span[contains(@class,'elementor-icon-list-text') and normalize-space()='0733 760 795']");
+    private static final By NAME_ID = By.id("form-field-name");
+
+    @Override
+    protected String fixture() {
+        return "academia-contact.html";
+    }
+
+    @Benchmark
+    public WebElement contactLinkCss() {
+        return driver.findElement(CONTACT_CSS);
+    }
+
+    @Benchmark
+    public WebElement contactLinkXpath() {
+        return driver.findElement(CONTACT_XPATH);
+    }
+
+    @Benchmark
+    public WebElement trimiteXpathNormalizeSpace() {
+        return driver.findElement(TRIMITE_XPATH);
+    }
+
+    @Benchmark
+    public WebElement trimiteCss() {
+        return driver.findElement(TRIMITE_CSS);
+    }
+
+    @Benchmark
+    public WebElement signInHeaderDeepCss() {
+        return driver.findElement(SIGN_IN_HEADER_DEEP_CSS);
+    }
+
+    @Benchmark
+    public WebElement signInHeaderShortCss() {
+        return driver.findElement(SIGN_IN_HEADER_SHORT_CSS);
+    }
+
+    @Benchmark
+    public WebElement phoneXpathNormalizeSpace() {
+        return driver.findElement(PHONE_XPATH);
+    }
+
+    @Benchmark
+    public WebElement formFieldById() {
+        return driver.findElement(NAME_ID);
+    }
+}
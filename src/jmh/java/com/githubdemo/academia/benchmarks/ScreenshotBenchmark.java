@@ -0,0 +1,66 @@
+package com.githubdemo.academia.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Base64;
+import java.util.Comparator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+
+// Screenshot paths: the old FILE + Files.copy hooks, BYTES + write, and the BASE64 capture that
+// ScreenshotService performs on the test thread (decode/write happen on its writer thread).
+@State(Scope.Benchmark)
+public class ScreenshotBenchmark extends BrowserBenchmark {
+    private Path outputDir;
+
+    @Override
+    protected String fixture() {
+        return "academia-contact.html";
+    }
+
+    @Setup(Level.Trial)
+    public void createOutputDir() throws IOException {
+        outputDir = Files.createTempDirectory("screenshot-bench");
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteOutputDir() throws IOException {
+        try (var files = Files.walk(outputDir)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public Path fileThenCopy() throws IOException {
+        File source = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
+        return Files.copy(source.toPath(), outputDir.resolve("file.png"), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Benchmark
+    public Path bytesThenWrite() throws IOException {
+        byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        return Files.write(outputDir.resolve("bytes.png"), png);
+    }
+
+    @Benchmark
+    public String base64CaptureOnly() {
+        return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+    }
+
+    @Benchmark
+    public byte[] base64CaptureAndDecode() {
+        return Base64.getMimeDecoder().decode(((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64));
+    }
+}
@@ -0,0 +1,134 @@
+package com.githubdemo.academia;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+
+import com.githubdemo.academia.bestpractices.FlowExecutor;
+import com.githubdemo.academia.bestpractices.FlowState;
+import com.githubdemo.academia.bestpractices.FlowStep;
+import com.githubdemo.academia.bestpractices.FormFiller;
+
+// academiatestarii.ro states and the steps that establish them, shared by the login and contact
+// tests. State checks only look at the current URL and DOM (no waits), so a step whose result is
+// already on screen - the session is logged in, the contact page is open - costs one lookup.
+public final class AcademiaFlows {
+    static final By INSTRUCTION = By.xpath("//span[contains(normalize-space(),'Completează informațiile de mai jos')]");
+    static final By TRIMITE = By.xpath("//span[@class='elementor-button-text' and normalize-space()='Trimite']");
+    static final By SUCCESS = By.xpath("//div[contains(@class,'elementor-message-success') and contains(normalize-space(),'Your submission was successful')]");
+
+    public final FlowState onSite;
+    public final FlowState onHome;
+    public final FlowState loggedIn;
+    public final FlowState onContactPage;
+    public final FlowState contactSubmitted;
+
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+    private final String baseUrl;
+    private final FlowStep openHome;
+    private final FlowStep openContact;
+
+    public AcademiaFlows(WebDriver driver, WebDriverWait wait, String baseUrl) {
+        this.driver = driver;
+        this.wait = wait;
+        this.baseUrl = baseUrl;
+        onSite = new FlowState("on-site", d -> d.getCurrentUrl().startsWith(baseUrl));
+        onHome = new FlowState("on-home", d -> path(d.getCurrentUrl()).equals(path(baseUrl)) && onSite.holds(d));
+        loggedIn = new FlowState("logged-in", d -> onSite.holds(d) && displayed(d, AuthSnapshot.GREETING));
+        onContactPage = new FlowState("on-contact-page",
+                d -> path(d.getCurrentUrl()).equals(path(baseUrl) + "/contact") && displayed(d, INSTRUCTION));
+        contactSubmitted = new FlowState("contact-submitted", d -> displayed(d, SUCCESS));
+
+        openHome = new FlowStep("open-home", Set.of(), Set.of(onSite, onHome), d -> d.get(baseUrl));
+        openContact = new FlowStep("open-contact", Set.of(onSite), Set.of(onContactPage), d -> {
+            By contactLinkBy = By.cssSelector("a.elementor-item[href='" + baseUrl + "/contact/']");
+            WebElement contactLink = wait.until(ExpectedConditions.visibilityOfElementLocated(contactLinkBy));
+            Assert.assertTrue(contactLink.isDisplayed(), "Contact link should be visible");
+            clickWithFallback(d, contactLink);
+        });
+    }
+
+    // Navigation steps reached implicitly when a later step requires their state.
+    public FlowExecutor executor() {
+        return new FlowExecutor(driver, wait, List.of(openHome, openContact));
+    }
+
+    public FlowStep openHome() {
+        return openHome;
+    }
+
+    public FlowStep openContact() {
+        return openContact;
+    }
+
+    // Restores the saved auth snapshot or logs in once (see AuthSnapshot), which navigates by itself;
+    // skipped when already logged in.
+    public FlowStep login(String user, String password) {
+        return new FlowStep("login", Set.of(), Set.of(loggedIn),
+                d -> AuthSnapshot.ensureLoggedIn(d, wait, baseUrl, user, password));
+    }
+
+    // Always goes through the login form; for tests that exercise the form itself. No ensures, so the
+    // executor never skips it on a session that is already logged in; the action waits for the greeting.
+    public FlowStep loginThroughUi(String user, String password) {
+        return new FlowStep("login-ui", Set.of(onHome), Set.of(),
+                d -> AuthSnapshot.loginThroughUi(d, wait, user, password));
+    }
+
+    public FlowStep fillContactForm(ContactDetails details, String message) {
+        // top-to-bottom, as a user would fill it
+        Map<By, String> values = new LinkedHashMap<>();
+        values.put(By.id("form-field-name"), details.firstName());
+        values.put(By.id("form-field-field_d4138de"), details.lastName());
+        values.put(By.id("form-field-field_55ad473"), details.phone());
+        values.put(By.id("form-field-email"), details.email());
+        values.put(By.id("form-field-message"), message);
+        return new FlowStep("fill-contact-form", Set.of(onContactPage), Set.of(), d -> FormFiller.fill(d, wait, values));
+    }
+
+    // Only the click is retried; the success message is the ensured state, waited for by the executor,
+    // so a slow confirmation never leads to a second submission.
+    public FlowStep submitContactForm() {
+        return new FlowStep("submit-contact-form", Set.of(onContactPage), Set.of(contactSubmitted), d -> {
+            WebElement trimite = wait.until(ExpectedConditions.elementToBeClickable(TRIMITE));
+            Assert.assertTrue(trimite.isDisplayed(), "Trimite button should be visible");
+            ((JavascriptExecutor) d).executeScript("arguments[0].scrollIntoView({block:'center', inline:'center'});", trimite);
+            clickWithFallback(d, trimite);
+        });
+    }
+
+    public record ContactDetails(String firstName, String lastName, String phone, String email) {
+    }
+
+    static void clickWithFallback(WebDriver driver, WebElement element) {
+        try {
+            element.click();
+        } catch (ElementClickInterceptedException e) {
+            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+        }
+    }
+
+    private static boolean displayed(WebDriver driver, By by) {
+        return driver.findElements(by).stream().anyMatch(WebElement::isDisplayed);
+    }
+
+    // "https://host/contact/?x=1#top" -> "https://host/contact"
+    private static String path(String url) {
+        URI uri = URI.create(url);
+        String path = uri.getPath() == null ? "" : uri.getPath().replaceAll("/+$", "");
+        return uri.getScheme() + "://" + uri.getAuthority() + path;
+    }
+}
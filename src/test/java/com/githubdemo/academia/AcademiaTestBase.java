@@ -0,0 +1,105 @@
+package com.githubdemo.academia;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.ITestResult;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+
+import com.githubdemo.academia.bestpractices.CommandTrace;
+import com.githubdemo.academia.bestpractices.DriverBootstrap;
+import com.githubdemo.academia.bestpractices.DriverFactory;
+import com.githubdemo.academia.bestpractices.PageQuiescence;
+import com.githubdemo.academia.bestpractices.ScreenshotService;
+import com.githubdemo.academia.bestpractices.StepRetry;
+import com.githubdemo.academia.bestpractices.StepTimeline;
+import com.githubdemo.academia.bestpractices.TimedWait;
+import com.githubdemo.academia.fixtures.TargetSites;
+import com.githubdemo.academia.impact.DependencyMap;
+
+// Thread-confined driver lifecycle for the academiatestarii.ro classes: every test method owns a
+// session on its own thread, so the classes can share one suite with parallel="methods".
+public abstract class AcademiaTestBase {
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    private static final ThreadLocal<WebDriverWait> WAIT = new ThreadLocal<>();
+
+    // Real site by default; a local record/replay fixture server with -Dfixtures.mode.
+    protected final String baseUrl = TargetSites.academia();
+
+    // Folder label for this class's screenshots in the ScreenshotStore manifest.
+    protected abstract String screenshotFolder();
+
+    protected WebDriver driver() {
+        return DRIVER.get();
+    }
+
+    protected WebDriverWait waiter() {
+        return WAIT.get();
+    }
+
+    // Resolved once per JVM and cached on disk across runs; see DriverBootstrap.
+    @BeforeClass(alwaysRun = true)
+    public void setUpDriverBinary() {
+        if (System.getProperty("selenium.remoteUrl") == null) {
+            DriverBootstrap.ensure(System.getProperty("browser", "chrome").toLowerCase());
+        }
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void setUp(Method method) {
+        StepTimeline.begin(getClass().getSimpleName() + "." + method.getName());
+        WebDriver driver = DriverFactory.acquireDriver();
+        DRIVER.set(driver);
+        // The legacy classes launched Chrome with --start-maximized; keep that for pooled sessions and
+        // context tabs too. Their 5 s implicit wait is deliberately gone: DriverFactory sets it to zero
+        // and every lookup goes through the explicit wait below, so a missing element fails after that
+        // wait instead of after both stacked.
+        driver.manage().window().maximize();
+        // Increase explicit wait to 30s to handle slower page loads
+        WAIT.set(new TimedWait(driver, Duration.ofSeconds(30)));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void takeScreenshotOnTestResult(ITestResult result) {
+        WebDriver driver = DRIVER.get();
+        if (driver == null) return;
+        try {
+            // allow UI transitions/animations to settle before capture, without a fixed pause
+            try {
+                PageQuiescence.await(driver);
+            } catch (WebDriverException ignored) {
+            }
+            String status = result.isSuccess() ? "PASSED" : "FAILED";
+            saveScreenshot(result.getMethod().getMethodName() + "_" + status);
+        } finally {
+            if (result.isSuccess()) {
+                DriverFactory.releaseDriver(driver);
+            } else {
+                DriverFactory.discardDriver(driver);
+            }
+            DRIVER.remove();
+            WAIT.remove();
+            StepTimeline.end();
+        }
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void flushArtifacts() {
+        ScreenshotService.shared().flush();
+        StepTimeline.writeSummary();
+        CommandTrace.write();
+        StepRetry.writeReport();
+        DependencyMap.write();
+    }
+
+    // Hashed and stored (once per unique image) by the background writer.
+    protected void saveScreenshot(String name) {
+        ScreenshotService.shared().capture(driver(), screenshotFolder(), name);
+    }
+}
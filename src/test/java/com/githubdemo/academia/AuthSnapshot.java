@@ -0,0 +1,198 @@
+package com.githubdemo.academia;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import com.githubdemo.academia.bestpractices.TimedWait;
+
+// Java counterpart of Playwright's storageState.json: log in through the UI once per run,
+// persist cookies + localStorage, and inject them into later sessions so tests start authenticated.
+public final class AuthSnapshot {
+    static final By INTRA_BUTTON = By.xpath("//span[contains(@class,'elementor-button-text') and normalize-space()='Intră în cont']");
+    static final By SIGN_IN_HEADER = By.cssSelector("#wrapper > div.masterstudy__login-page > div > div > div.masterstudy-authorization__wrapper > div.masterstudy-authorization__header > span");
+    static final By USER_INPUT = By.cssSelector("input[name='user_login'].masterstudy-authorization__form-input");
+    static final By PASSWORD_INPUT = By.cssSelector("input[name='user_password']");
+    static final By SIGN_IN_BUTTON = By.xpath("//span[contains(@class,'masterstudy-button__title') and normalize-space()='Sign In']");
+    static final By GREETING = By.xpath("//span[contains(@class,'elementor-button-text') and contains(normalize-space(),'Salut') and contains(normalize-space(),'Petrariu')]");
+
+    private static final Path FILE = Paths.get(System.getProperty("auth.snapshot", "target/auth/academia-storageState.json"));
+    private static final Duration MAX_AGE = Duration.ofMinutes(Long.getLong("auth.snapshot.maxAgeMinutes", 60));
+    private static final Duration VERIFY_TIMEOUT = Duration.ofSeconds(10);
+    private static final Json JSON = new Json();
+    private static final Object LOGIN = new Object();
+
+    private AuthSnapshot() {
+    }
+
+    // Restores the saved session when it is still valid, otherwise logs in once and refreshes the snapshot.
+    // Restores run concurrently; only the UI login and snapshot write are serialized, so parallel
+    // classes share one login instead of racing to create it.
+    public static void ensureLoggedIn(WebDriver driver, WebDriverWait wait, String baseUrl,
+            String user, String password) {
+        Map<String, Object> snapshot = read();
+        if (snapshot != null && !expired(snapshot) && restore(driver, baseUrl, snapshot)) {
+            return;
+        }
+        synchronized (LOGIN) {
+            // another session may have logged in and saved while this one restored or waited
+            Map<String, Object> latest = read();
+            if (latest != null && !expired(latest) && !savedAt(latest).equals(savedAt(snapshot))
+                    && restore(driver, baseUrl, latest)) {
+                return;
+            }
+            driver.get(baseUrl);
+            loginThroughUi(driver, wait, user, password);
+            save(driver, baseUrl);
+        }
+    }
+
+    // Full "Intră în cont" -> credentials -> "Sign In" flow; expects the home page to be loaded.
+    public static void loginThroughUi(WebDriver driver, WebDriverWait wait, String user, String password) {
+        wait.until(ExpectedConditions.visibilityOfElementLocated(INTRA_BUTTON)).click();
+        wait.until(ExpectedConditions.visibilityOfElementLocated(SIGN_IN_HEADER));
+
+        WebElement userInput = wait.until(ExpectedConditions.elementToBeClickable(USER_INPUT));
+        WebElement passInput = wait.until(ExpectedConditions.elementToBeClickable(PASSWORD_INPUT));
+        userInput.clear();
+        userInput.sendKeys(user);
+        passInput.clear();
+        passInput.sendKeys(password);
+
+        wait.until(ExpectedConditions.elementToBeClickable(SIGN_IN_BUTTON)).click();
+        wait.until(ExpectedConditions.visibilityOfElementLocated(GREETING));
+    }
+
+    private static boolean restore(WebDriver driver, String baseUrl, Map<String, Object> snapshot) {
+        try {
+            // cookies can only be added for the domain of the current page
+            driver.get(baseUrl);
+            for (Object raw : (List<?>) snapshot.getOrDefault("cookies", List.of())) {
+                driver.manage().addCookie(toCookie((Map<?, ?>) raw));
+            }
+            String origin = origin(baseUrl);
+            for (Object rawOrigin : (List<?>) snapshot.getOrDefault("origins", List.of())) {
+                Map<?, ?> entry = (Map<?, ?>) rawOrigin;
+                if (origin.equals(entry.get("origin"))) {
+                    ((JavascriptExecutor) driver).executeScript(
+                            "for (const item of arguments[0]) { window.localStorage.setItem(item.name, item.value); }",
+                            entry.get("localStorage"));
+                }
+            }
+            driver.navigate().refresh();
+            new TimedWait(driver, VERIFY_TIMEOUT).until(ExpectedConditions.visibilityOfElementLocated(GREETING));
+            return true;
+        } catch (WebDriverException | ClassCastException e) {
+            // server-side session is gone (logout elsewhere, expiry): fall back to a fresh login
+            driver.manage().deleteAllCookies();
+            return false;
+        }
+    }
+
+    private static void save(WebDriver driver, String baseUrl) {
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("name", cookie.getName());
+            json.put("value", cookie.getValue());
+            json.put("domain", cookie.getDomain());
+            json.put("path", cookie.getPath());
+            json.put("expires", cookie.getExpiry() == null ? -1 : cookie.getExpiry().toInstant().getEpochSecond());
+            json.put("httpOnly", cookie.isHttpOnly());
+            json.put("secure", cookie.isSecure());
+            json.put("sameSite", cookie.getSameSite());
+            cookies.add(json);
+        }
+        Object localStorage = ((JavascriptExecutor) driver).executeScript(
+                "return Object.keys(window.localStorage).map(k => ({ name: k, value: window.localStorage.getItem(k) }));");
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("savedAt", Instant.now().getEpochSecond());
+        snapshot.put("cookies", cookies);
+        snapshot.put("origins", List.of(Map.of("origin", origin(baseUrl), "localStorage", localStorage)));
+        try {
+            // written aside and moved into place, so a concurrent restore never reads half a file
+            Path parent = FILE.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path partial = Files.createTempFile(parent, FILE.getFileName().toString(), ".tmp");
+            Files.writeString(partial, JSON.toJson(snapshot), StandardCharsets.UTF_8);
+            Files.move(partial, FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Map<String, Object> read() {
+        if (!Files.isRegularFile(FILE)) {
+            return null;
+        }
+        try {
+            return JSON.toType(Files.readString(FILE, StandardCharsets.UTF_8), Json.MAP_TYPE);
+        } catch (IOException | WebDriverException e) {
+            return null;
+        }
+    }
+
+    private static String savedAt(Map<String, Object> snapshot) {
+        return snapshot == null ? "" : String.valueOf(snapshot.get("savedAt"));
+    }
+
+    private static boolean expired(Map<String, Object> snapshot) {
+        long now = Instant.now().getEpochSecond();
+        Object savedAt = snapshot.get("savedAt");
+        if (!(savedAt instanceof Number) || now - ((Number) savedAt).longValue() > MAX_AGE.toSeconds()) {
+            return true;
+        }
+        for (Object raw : (List<?>) snapshot.getOrDefault("cookies", List.of())) {
+            Object expires = ((Map<?, ?>) raw).get("expires");
+            if (expires instanceof Number && ((Number) expires).longValue() > 0 && ((Number) expires).longValue() <= now) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Cookie toCookie(Map<?, ?> json) {
+        long expires = ((Number) json.get("expires")).longValue();
+        Cookie.Builder builder = new Cookie.Builder((String) json.get("name"), (String) json.get("value"))
+                .path((String) json.get("path"))
+                .isHttpOnly(Boolean.TRUE.equals(json.get("httpOnly")))
+                .isSecure(Boolean.TRUE.equals(json.get("secure")));
+        if (json.get("domain") != null) {
+            builder.domain((String) json.get("domain"));
+        }
+        if (json.get("sameSite") != null) {
+            builder.sameSite((String) json.get("sameSite"));
+        }
+        if (expires > 0) {
+            builder.expiresOn(Date.from(Instant.ofEpochSecond(expires)));
+        }
+        return builder.build();
+    }
+
+    private static String origin(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+}
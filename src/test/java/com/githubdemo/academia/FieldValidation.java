@@ -0,0 +1,82 @@
+package com.githubdemo.academia;
+
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.githubdemo.academia.bestpractices.FormFiller;
+import com.githubdemo.academia.bestpractices.PageQuiescence;
+import com.githubdemo.academia.data.CsvDataProviders;
+import com.githubdemo.academia.data.CsvSource;
+import com.githubdemo.academia.data.TestDataRow;
+import com.githubdemo.academia.fixtures.TargetSites;
+
+// Java port of numeprenume.spec.ts / profesie-telefon.spec.ts, fed row by row from tests/data; rows run
+// on data-provider-thread-count sessions at once (testng-field-validation.xml).
+// A row's group is "<field>_valid" or "<field>_invalid", where <field> is the input's name on the
+// registration form; invalid values must leave the field marked red after Trimite, valid ones not.
+public class FieldValidation extends AcademiaTestBase {
+    private static final By TRIMITE = By.cssSelector("div.dima-button.trimite, .dima-button.trimite");
+    // Same signals as hasRedOutline in tests/helpers/ui.ts: aria-invalid, error classes on the field
+    // or its two nearest ancestors, or a red border/outline/shadow.
+    private static final String RED_OUTLINE = String.join("\n",
+            "const el = document.querySelector('[name=\"' + arguments[0] + '\"]');",
+            "if (!el) return false;",
+            "if (el.getAttribute('aria-invalid') === 'true') return true;",
+            "const p = el.parentElement, gp = p && p.parentElement;",
+            "const classes = [el.className || '', p ? p.className || '' : '', gp ? gp.className || '' : ''].join(' ').toLowerCase();",
+            "if (['failed', 'is-invalid', 'invalid', 'error', 'has-error'].some(c => classes.includes(c))) return true;",
+            "const cs = getComputedStyle(el);",
+            "const style = [cs.borderColor, cs.borderTopColor, cs.outlineColor, cs.boxShadow, cs.outlineStyle].join('|').toLowerCase();",
+            "return ['255, 0, 0', '220, 53, 69', '#dc3545', 'red'].some(c => style.includes(c));");
+
+    private final String formUrl = TargetSites.academiaVer3() + "/index.php/formular/";
+
+    @Override
+    protected String screenshotFolder() {
+        return "field-validation";
+    }
+
+    @CsvSource(file = "numeprenume.csv")
+    @Test(dataProvider = CsvDataProviders.CSV_PARALLEL, dataProviderClass = CsvDataProviders.class,
+            description = "Nume/Prenume validation on the registration form")
+    public void numePrenume(TestDataRow row) {
+        check(row);
+    }
+
+    @CsvSource(file = "profesie-telefon.csv")
+    @Test(dataProvider = CsvDataProviders.CSV_PARALLEL, dataProviderClass = CsvDataProviders.class,
+            description = "Profesie/Telefon validation on the registration form")
+    public void profesieTelefon(TestDataRow row) {
+        check(row);
+    }
+
+    private void check(TestDataRow row) {
+        int split = row.group().lastIndexOf('_');
+        Assert.assertTrue(split > 0, "Row group should be <field>_valid or <field>_invalid: " + row);
+        String field = row.group().substring(0, split);
+        boolean expectValid = "valid".equals(row.group().substring(split + 1));
+
+        WebDriver driver = driver();
+        WebDriverWait wait = waiter();
+        driver.get(formUrl);
+        wait.until(ExpectedConditions.visibilityOfElementLocated(By.name(field)));
+        FormFiller.fill(driver, wait, Map.of(By.name(field), row.value()));
+        // click Trimite to trigger validation, then let the error styling settle
+        AcademiaFlows.clickWithFallback(driver, wait.until(ExpectedConditions.elementToBeClickable(TRIMITE)));
+        PageQuiescence.await(driver);
+
+        boolean hasError = Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(RED_OUTLINE, field));
+        if (expectValid) {
+            Assert.assertFalse(hasError, "bug present: valid value '" + row.value() + "' triggers red outline");
+        } else {
+            Assert.assertTrue(hasError, "bug present: invalid value '" + row.value() + "' does NOT trigger red outline");
+        }
+    }
+}
@@ -3,11 +3,13 @@ package com.githubdemo.academia.bestpractices;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
+import com.githubdemo.academia.fixtures.TargetSites;
+
 import static org.testng.Assert.assertTrue;
 
 // Inheritance + polymorphism implementation.
 public class ApiSection extends BasePage implements SectionNavigator {
-    private static final String URL = "https://playwright.dev/docs/api/class-playwright";
+    private static final String PATH = "/docs/api/class-playwright";
     private static final By MAIN_HEADING = By.cssSelector("h1");
 
     public ApiSection(WebDriver driver) {
@@ -16,9 +18,10 @@ public class ApiSection extends BasePage implements SectionNavigator {
 
     @Override
     public void navigate() {
-        open(URL);
-        assertTrue(visible(MAIN_HEADING).isDisplayed(), "Main heading should be visible");
-        assertTrue(visible(MAIN_HEADING).getText().trim().equals("Playwright Library"),
+        open(TargetSites.playwright() + PATH);
+        PageSnapshot page = snapshot(MAIN_HEADING);
+        assertTrue(page.isVisible(MAIN_HEADING), "Main heading should be visible");
+        assertTrue("Playwright Library".equals(page.text(MAIN_HEADING)),
                 "Main heading should be Playwright Library");
     }
 }
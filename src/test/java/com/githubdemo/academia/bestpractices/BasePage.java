@@ -1,6 +1,8 @@
 package com.githubdemo.academia.bestpractices;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
@@ -13,24 +15,64 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 public abstract class BasePage {
     protected final WebDriver driver;
     protected final WebDriverWait wait;
+    private final ElementCache cache = new ElementCache();
 
     protected BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = new TimedWait(driver, Duration.ofSeconds(15));
     }
 
     protected void open(String absoluteUrl) {
+        cache.invalidate();
         driver.get(absoluteUrl);
     }
 
+    public ElementCache elementCache() {
+        return cache;
+    }
+
+    // Use instead of fixed sleeps when waiting for transitions, animations or XHR to finish.
+    protected boolean waitForQuiet() {
+        return PageQuiescence.await(driver);
+    }
+
+    // Cached per navigation and condition; a hit re-checks the condition on the cached element and
+    // waits again when it no longer holds or the element went stale.
     protected WebElement visible(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return cache.get(locator, "visible", WebElement::isDisplayed,
+                by -> wait.until(ExpectedConditions.visibilityOfElementLocated(by)));
     }
 
     protected WebElement clickable(By locator) {
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return cache.get(locator, "clickable", element -> element.isDisplayed() && element.isEnabled(),
+                by -> wait.until(ExpectedConditions.elementToBeClickable(by)));
+    }
+
+    // Waits until every locator is visible and returns them captured in one round trip; assert on the
+    // snapshot instead of calling isDisplayed()/getText() per element, and refresh() it after changes.
+    protected PageSnapshot snapshot(By... locators) {
+        return PageSnapshot.await(driver, wait, locators);
+    }
+
+    // One round trip for the whole form; see FormFiller for the native-typing fallback.
+    protected void fillForm(Map<By, String> values) {
+        FormFiller.fill(driver, wait, values);
+    }
+
+    protected void fillForm(Map<By, String> values, Set<By> typeNatively) {
+        FormFiller.fill(driver, wait, values, typeNatively);
+    }
+
+    // Checkpointed step: transient failures re-run just this action in the same session.
+    protected void step(String name, Runnable action) {
+        StepRetry.call(driver, getClass().getSimpleName() + "." + name, () -> {
+            action.run();
+            return null;
+        }, cache::invalidate);
     }
 
+    // A click that navigates needs no invalidation: every element of the old document is stale, so
+    // the next cache hit fails its condition re-check and resolves again on the new page.
     protected void click(By locator) {
         clickable(locator).click();
     }
@@ -39,10 +81,11 @@ public abstract class BasePage {
         StaleElementReferenceException lastStale = null;
         for (int attempt = 0; attempt < 3; attempt++) {
             try {
-                wait.until(ExpectedConditions.elementToBeClickable(locator)).click();
+                clickable(locator).click();
                 return;
             } catch (StaleElementReferenceException stale) {
                 lastStale = stale;
+                cache.invalidate();
             }
         }
         if (lastStale != null) {
@@ -0,0 +1,233 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v118.browser.model.BrowserContextID;
+import org.openqa.selenium.devtools.v118.systeminfo.SystemInfo;
+import org.openqa.selenium.devtools.v118.systeminfo.model.ProcessInfo;
+import org.openqa.selenium.devtools.v118.target.Target;
+import org.openqa.selenium.devtools.v118.target.model.TargetID;
+
+// One long-lived Chrome for many tests (-Ddriver.contexts=true, Chrome only). Each test gets its own
+// browser context (Target.createBrowserContext: separate cookies, storage and cache) with one tab in
+// it, driven by a lightweight ChromeDriver session attached to the shared browser through its
+// debuggerAddress, so tests still run their commands in parallel. Closing the test disposes the
+// context; the browser itself lives until JVM exit.
+// Browser RSS (Linux /proc, all Chrome processes) is sampled on every open/close to report memory
+// per concurrent test against a process-per-test baseline.
+public final class BrowserContexts {
+    private static final BrowserContexts SHARED = new BrowserContexts();
+
+    private final Map<WebDriver, Lease> leases = new ConcurrentHashMap<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Stats stats = new Stats();
+    private ChromeDriver host;
+    private DevTools browser;
+    private String debuggerAddress;
+
+    private BrowserContexts() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "browser-contexts-shutdown"));
+    }
+
+    public static BrowserContexts shared() {
+        return SHARED;
+    }
+
+    public static boolean enabled() {
+        return Boolean.getBoolean("driver.contexts");
+    }
+
+    public WebDriver open() {
+        ensureBrowser();
+        long start = System.nanoTime();
+        BrowserContextID context;
+        TargetID target;
+        synchronized (this) {
+            context = browser.send(Target.createBrowserContext(Optional.of(true), Optional.empty(), Optional.empty(),
+                    Optional.empty()));
+            target = browser.send(Target.createTarget("about:blank", Optional.empty(), Optional.empty(),
+                    Optional.of(context), Optional.empty(), Optional.of(true), Optional.empty(), Optional.empty()));
+        }
+        ChromeDriver attached;
+        try {
+            ChromeOptions options = new ChromeOptions();
+            options.setExperimentalOption("debuggerAddress", debuggerAddress);
+            attached = new ChromeDriver(options);
+            // ChromeDriver window handles are DevTools target ids (older builds prefix "CDwindow-")
+            String handle = attached.getWindowHandles().stream()
+                    .filter(candidate -> candidate.endsWith(target.toString()))
+                    .findFirst()
+                    .orElseThrow(() -> new WebDriverException("Context tab " + target + " not visible to the session"));
+            attached.switchTo().window(handle);
+        } catch (RuntimeException e) {
+            dispose(context);
+            throw e;
+        }
+        WebDriver driver = DriverFactory.instrument(attached);
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        leases.put(driver, new Lease(attached, context));
+        stats.opened.incrementAndGet();
+        stats.openNanos.addAndGet(System.nanoTime() - start);
+        stats.sample(active.incrementAndGet(), browserRssBytes());
+        return driver;
+    }
+
+    public void close(WebDriver driver) {
+        Lease lease = leases.remove(driver);
+        if (lease == null) {
+            return;
+        }
+        try {
+            Object heap = ((JavascriptExecutor) lease.session).executeScript(
+                    "return performance.memory ? performance.memory.usedJSHeapSize : null;");
+            if (heap instanceof Number bytes) {
+                stats.jsHeapBytes.addAndGet(bytes.longValue());
+                stats.jsHeapSamples.incrementAndGet();
+            }
+        } catch (WebDriverException ignored) {
+            // heap numbers are best effort
+        }
+        stats.sample(active.get(), browserRssBytes());
+        try {
+            // an attached session only detaches on quit; the shared browser keeps running
+            lease.session.quit();
+        } catch (WebDriverException ignored) {
+        }
+        dispose(lease.context);
+        active.decrementAndGet();
+    }
+
+    public Stats stats() {
+        return stats;
+    }
+
+    private synchronized void ensureBrowser() {
+        if (host != null) {
+            return;
+        }
+        ChromeOptions options = new ChromeOptions();
+        // also publishes webdriver.chrome.driver for the attached sessions
+        DriverBootstrap.apply(options);
+        if (LeanBrowser.enabled()) {
+            LeanBrowser.configure(options);
+        }
+        host = new ChromeDriver(options);
+        Object chromeOptions = host.getCapabilities().getCapability("goog:chromeOptions");
+        debuggerAddress = String.valueOf(((Map<?, ?>) chromeOptions).get("debuggerAddress"));
+        browser = host.getDevTools();
+        // no page session: Target/SystemInfo commands go to the browser endpoint
+    }
+
+    private synchronized void dispose(BrowserContextID context) {
+        try {
+            browser.send(Target.disposeBrowserContext(context));
+        } catch (WebDriverException ignored) {
+            // the browser is already gone at shutdown
+        }
+    }
+
+    // Sum of VmRSS over every Chrome process (browser, GPU, network, renderers); -1 off Linux.
+    private long browserRssBytes() {
+        if (!Files.isDirectory(Paths.get("/proc"))) {
+            return -1;
+        }
+        List<ProcessInfo> processes;
+        synchronized (this) {
+            try {
+                processes = browser.send(SystemInfo.getProcessInfo());
+            } catch (WebDriverException e) {
+                return -1;
+            }
+        }
+        long total = 0;
+        Set<Integer> seen = new HashSet<>();
+        for (ProcessInfo process : processes) {
+            if (!seen.add(process.getId())) {
+                continue;
+            }
+            Path status = Paths.get("/proc", String.valueOf(process.getId()), "status");
+            try {
+                for (String line : Files.readAllLines(status)) {
+                    if (line.startsWith("VmRSS:")) {
+                        total += Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                // process exited between the listing and the read
+            }
+        }
+        return total;
+    }
+
+    private synchronized void shutdown() {
+        if (host == null) {
+            return;
+        }
+        System.out.println(stats);
+        try {
+            browser.close();
+            host.quit();
+        } catch (WebDriverException ignored) {
+        }
+        host = null;
+    }
+
+    // session is the undecorated attached driver; tests hold the instrumented wrapper around it.
+    private record Lease(ChromeDriver session, BrowserContextID context) {
+    }
+
+    // Memory per test = browser RSS / concurrent contexts at the busiest sample.
+    public static final class Stats {
+        private final AtomicLong opened = new AtomicLong();
+        private final AtomicLong openNanos = new AtomicLong();
+        private final AtomicLong jsHeapBytes = new AtomicLong();
+        private final AtomicLong jsHeapSamples = new AtomicLong();
+        private int peakContexts;
+        private long rssAtPeak = -1;
+        private long peakRss = -1;
+
+        private synchronized void sample(int contexts, long rssBytes) {
+            peakRss = Math.max(peakRss, rssBytes);
+            if (contexts >= peakContexts && rssBytes > 0) {
+                peakContexts = contexts;
+                rssAtPeak = rssBytes;
+            }
+        }
+
+        public synchronized double rssPerTestMegabytes() {
+            return peakContexts == 0 || rssAtPeak < 0 ? -1 : rssAtPeak / 1048576.0 / peakContexts;
+        }
+
+        public double averageOpenMillis() {
+            long n = opened.get();
+            return n == 0 ? 0 : openNanos.get() / 1_000_000.0 / n;
+        }
+
+        @Override
+        public synchronized String toString() {
+            long heapSamples = jsHeapSamples.get();
+            return String.format(
+                    "[browser-contexts] tests=%d peakConcurrent=%d peakBrowserRssMB=%.0f rssPerTestMB=%.0f avgJsHeapMB=%.1f avgOpenMs=%.0f",
+                    opened.get(), peakContexts, peakRss / 1048576.0, rssPerTestMegabytes(),
+                    heapSamples == 0 ? 0 : jsHeapBytes.get() / 1048576.0 / heapSamples, averageOpenMillis());
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+// Command timeline (-Dcommands.trace=true, off by default like timings): every WebDriver/WebElement
+// command is kept as a compact event with thread and test name, and commands slower than
+// commands.slowMs are always kept and listed at suite end. write() dumps target/commands/trace.json
+// in Chrome trace-event format (open it in chrome://tracing or ui.perfetto.dev) to see the threads.
+// Per command the cost is two nanoTime() calls and one queue insert; JSON is only built at suite end.
+public class CommandTrace implements WebDriverListener {
+    private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong("commands.slowMs", 1000));
+    private static final int MAX_EVENTS = Integer.getInteger("commands.maxEvents", 200_000);
+    private static final Path DIR = Paths.get(System.getProperty("commands.dir", "target/commands"));
+    private static final long ORIGIN_NANOS = System.nanoTime();
+    private static final Queue<Event> EVENTS = new ConcurrentLinkedQueue<>();
+    private static final Queue<Event> SLOW = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger RECORDED = new AtomicInteger();
+    private static final AtomicLong DROPPED = new AtomicLong();
+
+    private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public static boolean enabled() {
+        return Boolean.getBoolean("commands.trace");
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!TimingListener.LOCAL_CALLS.contains(method.getName())) {
+            starts.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(target, method, args, null);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(target, method, args, e.getTargetException());
+    }
+
+    private void finish(Object target, Method method, Object[] args, Throwable error) {
+        if (TimingListener.LOCAL_CALLS.contains(method.getName())) {
+            return;
+        }
+        Deque<Long> stack = starts.get();
+        if (stack.isEmpty()) {
+            return;
+        }
+        long start = stack.pop();
+        long end = System.nanoTime();
+        boolean slow = end - start >= SLOW_NANOS;
+        if (!slow && RECORDED.get() >= MAX_EVENTS) {
+            DROPPED.incrementAndGet();
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        Event event = new Event(method.getName(), target instanceof WebElement ? "element" : "driver", start, end,
+                thread.threadId(), thread.getName(), StepTimeline.currentTest(), describe(method.getName(), args),
+                error == null ? null : error.getClass().getSimpleName(),
+                // element toString() carries the locator it was found by; only worth building when slow
+                slow && target instanceof WebElement ? String.valueOf(target) : null);
+        if (RECORDED.incrementAndGet() <= MAX_EVENTS) {
+            EVENTS.add(event);
+        } else {
+            DROPPED.incrementAndGet();
+        }
+        if (slow) {
+            SLOW.add(event);
+        }
+    }
+
+    // Locators, URLs and script heads are kept; typed text is reduced to its length (passwords).
+    private static String describe(String method, Object[] args) {
+        if (args == null || args.length == 0) {
+            return null;
+        }
+        Object first = args[0];
+        if (first instanceof By) {
+            return first.toString();
+        }
+        if ("sendKeys".equals(method)) {
+            int length = 0;
+            for (Object keys : (Object[]) first) {
+                length += String.valueOf(keys).length();
+            }
+            return length + " chars";
+        }
+        if (first instanceof String text) {
+            String line = text.strip().lines().findFirst().orElse("");
+            return line.length() > 120 ? line.substring(0, 117) + "..." : line;
+        }
+        return String.valueOf(first);
+    }
+
+    // Dumps the trace and prints the slowest commands; call at suite end.
+    public static void write() {
+        if (EVENTS.isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> traceEvents = new ArrayList<>();
+        Map<Long, String> threads = new TreeMap<>();
+        for (Event event : EVENTS) {
+            threads.put(event.threadId, event.threadName);
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("name", event.command);
+            json.put("cat", event.category);
+            json.put("ph", "X");
+            json.put("ts", TimeUnit.NANOSECONDS.toMicros(event.startNanos - ORIGIN_NANOS));
+            json.put("dur", TimeUnit.NANOSECONDS.toMicros(event.endNanos - event.startNanos));
+            json.put("pid", 1);
+            json.put("tid", event.threadId);
+            json.put("args", event.args());
+            traceEvents.add(json);
+        }
+        threads.forEach((id, name) -> traceEvents.add(Map.of("name", "thread_name", "ph", "M", "pid", 1, "tid", id,
+                "args", Map.of("name", name))));
+        Map<String, Object> trace = new LinkedHashMap<>();
+        trace.put("traceEvents", traceEvents);
+        trace.put("displayTimeUnit", "ms");
+        Path file = DIR.resolve("trace.json");
+        try {
+            Files.createDirectories(DIR);
+            Files.writeString(file, new Json().toJson(trace), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        System.out.printf("[commands] %d commands traced (%d dropped), %d slower than %dms; trace: %s%n",
+                EVENTS.size(), DROPPED.get(), SLOW.size(), TimeUnit.NANOSECONDS.toMillis(SLOW_NANOS), file);
+        SLOW.stream()
+                .sorted(Comparator.comparingLong((Event event) -> event.endNanos - event.startNanos).reversed())
+                .limit(10)
+                .forEach(event -> System.out.println("[commands]   " + event.summary()));
+    }
+
+    private record Event(String command, String category, long startNanos, long endNanos, long threadId,
+                         String threadName, String test, String detail, String error, String element) {
+
+        private Map<String, Object> args() {
+            Map<String, Object> args = new LinkedHashMap<>();
+            if (test != null) {
+                args.put("test", test);
+            }
+            if (detail != null) {
+                args.put("arg", detail);
+            }
+            if (element != null) {
+                args.put("element", element);
+            }
+            if (error != null) {
+                args.put("error", error);
+            }
+            return args;
+        }
+
+        private String summary() {
+            return String.format("%dms %s %s(%s) test=%s thread=%s%s",
+                    TimeUnit.NANOSECONDS.toMillis(endNanos - startNanos), category, command,
+                    detail == null ? "" : detail, test, threadName, error == null ? "" : " error=" + error);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.json.Json;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+// Resolves driver (and browser) binaries once per JVM and once per machine: the result is kept in
+// ~/.cache/github-demo/drivers.json and reused, without any network access, while the driver file
+// still exists, the browser binary is unchanged (a browser update invalidates the entry) and the
+// entry is younger than drivers.cache.maxAgeDays. -Ddrivers.offline=true always trusts the cache.
+// The driver path is published as webdriver.<x>.driver, so Selenium Manager is skipped as well.
+public final class DriverBootstrap {
+    private static final Path CACHE = Paths.get(System.getProperty("drivers.cache",
+            Paths.get(System.getProperty("user.home"), ".cache", "github-demo", "drivers.json").toString()));
+    private static final Duration MAX_AGE = Duration.ofDays(Long.getLong("drivers.cache.maxAgeDays", 7));
+    private static final Map<String, Resolution> RESOLVED = new ConcurrentHashMap<>();
+    private static final Json JSON = new Json();
+
+    private DriverBootstrap() {
+    }
+
+    public record Resolution(String browser, String driverPath, String driverVersion, String browserPath,
+                             long browserModified, Instant resolvedAt) {
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("driverPath", driverPath);
+            json.put("driverVersion", driverVersion);
+            json.put("browserPath", browserPath);
+            json.put("browserModified", browserModified);
+            json.put("resolvedAt", resolvedAt.toString());
+            return json;
+        }
+
+        static Resolution fromJson(String browser, Map<?, ?> json) {
+            return new Resolution(browser, (String) json.get("driverPath"), (String) json.get("driverVersion"),
+                    (String) json.get("browserPath"), ((Number) json.get("browserModified")).longValue(),
+                    Instant.parse((String) json.get("resolvedAt")));
+        }
+
+        private boolean usable(boolean offline) {
+            if (driverPath == null || !Files.isExecutable(Paths.get(driverPath))) {
+                return false;
+            }
+            if (offline) {
+                return true;
+            }
+            return browserModified == modified(browserPath)
+                    && Duration.between(resolvedAt, Instant.now()).compareTo(MAX_AGE) < 0;
+        }
+    }
+
+    public static void apply(ChromeOptions options) {
+        Resolution resolution = ensure("chrome");
+        if (resolution.browserPath != null) {
+            options.setBinary(resolution.browserPath);
+        }
+    }
+
+    public static void apply(FirefoxOptions options) {
+        Resolution resolution = ensure("firefox");
+        if (resolution.browserPath != null) {
+            options.setBinary(resolution.browserPath);
+        }
+    }
+
+    // "chrome" or "firefox"; cheap after the first call in the JVM.
+    public static Resolution ensure(String browser) {
+        return RESOLVED.computeIfAbsent(browser, DriverBootstrap::resolve);
+    }
+
+    private static Resolution resolve(String browser) {
+        long start = System.nanoTime();
+        boolean offline = Boolean.getBoolean("drivers.offline");
+        Resolution cached = readCache().get(browser);
+        String source;
+        Resolution resolution;
+        if (cached != null && cached.usable(offline)) {
+            resolution = cached;
+            source = "disk cache";
+        } else if (offline) {
+            throw new IllegalStateException("drivers.offline is set but " + CACHE + " has no usable " + browser
+                    + " entry; run once online to populate it");
+        } else {
+            try {
+                resolution = download(browser);
+                source = "WebDriverManager";
+                writeCache(resolution);
+            } catch (RuntimeException e) {
+                // slow or absent network: a stale entry whose driver still exists beats failing the suite
+                if (cached == null || !cached.usable(true)) {
+                    throw e;
+                }
+                resolution = cached;
+                source = "stale disk cache (" + e.getClass().getSimpleName() + ")";
+            }
+        }
+        System.setProperty("firefox".equals(browser) ? "webdriver.gecko.driver" : "webdriver.chrome.driver",
+                resolution.driverPath);
+        System.out.printf("[driver-bootstrap] %s driver %s (%s) from %s in %dms%n", browser, resolution.driverVersion,
+                resolution.driverPath, source, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return resolution;
+    }
+
+    private static Resolution download(String browser) {
+        WebDriverManager manager = "firefox".equals(browser) ? WebDriverManager.firefoxdriver()
+                : WebDriverManager.chromedriver();
+        manager.setup();
+        String browserPath = manager.getBrowserPath().map(Path::toString).orElse(null);
+        return new Resolution(browser, manager.getDownloadedDriverPath(), manager.getDownloadedDriverVersion(),
+                browserPath, modified(browserPath), Instant.now());
+    }
+
+    private static long modified(String path) {
+        try {
+            return path == null ? 0 : Files.getLastModifiedTime(Paths.get(path)).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static Map<String, Resolution> readCache() {
+        Map<String, Resolution> entries = new LinkedHashMap<>();
+        if (!Files.isRegularFile(CACHE)) {
+            return entries;
+        }
+        try {
+            Map<String, Object> json = JSON.toType(Files.readString(CACHE, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            json.forEach((browser, entry) -> entries.put(browser, Resolution.fromJson(browser, (Map<?, ?>) entry)));
+        } catch (IOException | RuntimeException e) {
+            // a corrupt cache is just a miss
+            System.err.println("[driver-bootstrap] ignoring unreadable " + CACHE + ": " + e);
+        }
+        return entries;
+    }
+
+    // Other JVMs (shards) may write concurrently: merge with what is on disk and replace atomically.
+    private static synchronized void writeCache(Resolution resolution) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        readCache().forEach((browser, entry) -> json.put(browser, entry.toJson()));
+        json.put(resolution.browser, resolution.toJson());
+        try {
+            Files.createDirectories(CACHE.getParent());
+            Path temp = Files.createTempFile(CACHE.getParent(), "drivers", ".tmp");
+            Files.writeString(temp, JSON.toJson(json), StandardCharsets.UTF_8);
+            Files.move(temp, CACHE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("[driver-bootstrap] could not write " + CACHE + ": " + e);
+        }
+    }
+}
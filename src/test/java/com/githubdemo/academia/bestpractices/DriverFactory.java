@@ -1,12 +1,23 @@
 package com.githubdemo.academia.bestpractices;
 
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import com.githubdemo.academia.impact.DependencyRecorder;
 
 public final class DriverFactory {
     private DriverFactory() {
@@ -16,16 +27,99 @@ public final class DriverFactory {
         String browser = System.getProperty("browser", "chrome").toLowerCase();
         WebDriver driver;
 
+        boolean lean = LeanBrowser.enabled();
+        // Selenium Grid endpoint (e.g. the standalone node ShardRunner starts); local browsers otherwise.
+        String remote = System.getProperty("selenium.remoteUrl");
+
         if ("firefox".equals(browser)) {
             FirefoxOptions options = new FirefoxOptions();
-            driver = new FirefoxDriver(options);
+            if (remote == null) {
+                DriverBootstrap.apply(options);
+            }
+            if (lean) {
+                LeanBrowser.configure(options);
+            }
+            driver = remote == null ? new FirefoxDriver(options) : remoteDriver(remote, options);
         } else {
             ChromeOptions options = new ChromeOptions();
-            driver = new ChromeDriver(options);
+            if (remote == null) {
+                DriverBootstrap.apply(options);
+            }
+            if (lean) {
+                LeanBrowser.configure(options);
+            }
+            driver = remote == null ? new ChromeDriver(options) : remoteDriver(remote, options);
+        }
+
+        if (lean) {
+            LeanBrowser.attach(driver);
         }
+        driver = instrument(driver);
 
         driver.manage().window().maximize();
         driver.manage().timeouts().implicitlyWait(Duration.ZERO);
         return driver;
     }
+
+    // Command tracing, step timings and impact-analysis dependencies; shared with BrowserContexts, which builds its own sessions.
+    static WebDriver instrument(WebDriver driver) {
+        List<WebDriverListener> listeners = new ArrayList<>();
+        if (CommandTrace.enabled()) {
+            listeners.add(new CommandTrace());
+        }
+        if (StepTimeline.enabled()) {
+            listeners.add(new TimingListener());
+        }
+        if (DependencyRecorder.enabled()) {
+            listeners.add(new DependencyRecorder());
+        }
+        if (!listeners.isEmpty()) {
+            return new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(driver);
+        }
+        return driver;
+    }
+
+    // Augmented so DevTools (lean mode) keeps working through the Grid's CDP proxy.
+    private static WebDriver remoteDriver(String remoteUrl, Capabilities options) {
+        try {
+            return new Augmenter().augment(new RemoteWebDriver(new URL(remoteUrl), options));
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid selenium.remoteUrl " + remoteUrl, e);
+        }
+    }
+
+    // Context mode (-Ddriver.contexts=true) hands out an isolated context of one shared Chrome;
+    // pooled mode (-Ddriver.pool=true) warm sessions; otherwise a fresh browser per call.
+    public static WebDriver acquireDriver() {
+        if (BrowserContexts.enabled()) {
+            return BrowserContexts.shared().open();
+        }
+        return DriverPool.enabled() ? DriverPool.shared().borrow() : createDriver();
+    }
+
+    public static void releaseDriver(WebDriver driver) {
+        if (BrowserContexts.enabled()) {
+            BrowserContexts.shared().close(driver);
+        } else if (DriverPool.enabled()) {
+            DriverPool.shared().release(driver);
+        } else {
+            quitDriver(driver);
+        }
+    }
+
+    // For sessions a failed test leaves in an unknown state: a pooled one is retired, never reused.
+    public static void discardDriver(WebDriver driver) {
+        if (BrowserContexts.enabled()) {
+            BrowserContexts.shared().close(driver);
+        } else if (DriverPool.enabled()) {
+            DriverPool.shared().invalidate(driver);
+        } else {
+            quitDriver(driver);
+        }
+    }
+
+    public static void quitDriver(WebDriver driver) {
+        LeanBrowser.detach(driver);
+        driver.quit();
+    }
 }
@@ -0,0 +1,289 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+// Bounded pool of pre-launched sessions: tests borrow a warm browser and hand it back
+// for a state reset instead of paying a full browser launch per test method.
+public final class DriverPool {
+    private final Supplier<WebDriver> launcher;
+    private final int maxSize;
+    private final Duration maxAge;
+    private final int maxUses;
+    private final Semaphore permits;
+    private final BlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledSession> borrowed = new ConcurrentHashMap<>();
+    private final Stats stats = new Stats();
+    private volatile boolean closed;
+
+    DriverPool(Supplier<WebDriver> launcher, int maxSize, Duration maxAge, int maxUses) {
+        this.launcher = launcher;
+        this.maxSize = Math.max(1, maxSize);
+        this.maxAge = maxAge;
+        this.maxUses = Math.max(1, maxUses);
+        this.permits = new Semaphore(this.maxSize, true);
+    }
+
+    public static DriverPool shared() {
+        return Shared.POOL;
+    }
+
+    public static boolean enabled() {
+        return Boolean.getBoolean("driver.pool");
+    }
+
+    // Launches sessions up front (in parallel) so the first tests do not pay the launch cost.
+    public void warmUp(int count) {
+        int target = Math.min(count, maxSize);
+        List<Thread> launches = new ArrayList<>();
+        for (int i = 0; i < target; i++) {
+            if (!permits.tryAcquire()) {
+                break;
+            }
+            launches.add(Thread.ofPlatform().name("driver-pool-warmup-" + i).start(() -> {
+                try {
+                    idle.offerLast(launch());
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+        for (Thread launch : launches) {
+            try {
+                launch.join();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public WebDriver borrow() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool is closed");
+        }
+        long start = System.nanoTime();
+        try {
+            permits.acquire();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled driver", ie);
+        }
+        try {
+            PooledSession session = idle.pollFirst();
+            while (session != null && session.expired(maxAge, maxUses)) {
+                retire(session);
+                session = idle.pollFirst();
+            }
+            if (session == null) {
+                session = launch();
+            } else {
+                stats.reuses.incrementAndGet();
+            }
+            session.uses++;
+            borrowed.put(session.driver, session);
+            stats.borrows.incrementAndGet();
+            stats.borrowNanos.addAndGet(System.nanoTime() - start);
+            return session.driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void release(WebDriver driver) {
+        PooledSession session = borrowed.remove(driver);
+        if (session == null) {
+            return;
+        }
+        try {
+            if (closed || session.expired(maxAge, maxUses) || !reset(session)) {
+                retire(session);
+            } else {
+                idle.offerFirst(session);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    // Drops a session whose state cannot be trusted (crashed test, hung browser).
+    public void invalidate(WebDriver driver) {
+        PooledSession session = borrowed.remove(driver);
+        if (session == null) {
+            return;
+        }
+        try {
+            retire(session);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public Stats stats() {
+        return stats;
+    }
+
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            retire(session);
+        }
+        if (stats.launches.get() > 0) {
+            System.out.println(stats);
+        }
+    }
+
+    private PooledSession launch() {
+        long start = System.nanoTime();
+        WebDriver driver = launcher.get();
+        stats.launches.incrementAndGet();
+        stats.launchNanos.addAndGet(System.nanoTime() - start);
+        return new PooledSession(driver);
+    }
+
+    // Returns false when the browser no longer responds; the caller retires the session.
+    private boolean reset(PooledSession session) {
+        long start = System.nanoTime();
+        WebDriver driver = session.driver;
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (int i = 1; i < handles.size(); i++) {
+                driver.switchTo().window(handles.get(i)).close();
+            }
+            driver.switchTo().window(handles.get(0));
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            } catch (WebDriverException ignored) {
+                // about:blank and data: pages have no storage to clear
+            }
+            WebDriver original = driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+            if (original instanceof ChromiumDriver chromium) {
+                chromium.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        } finally {
+            stats.resets.incrementAndGet();
+            stats.resetNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    private void retire(PooledSession session) {
+        stats.retired.incrementAndGet();
+        try {
+            DriverFactory.quitDriver(session.driver);
+        } catch (WebDriverException ignored) {
+        }
+    }
+
+    // Built on first shared() call, so enabled() checks with pooling off create nothing and register no hook.
+    private static final class Shared {
+        private static final DriverPool POOL = new DriverPool(
+                DriverFactory::createDriver,
+                Integer.getInteger("driver.pool.size", 3),
+                Duration.ofSeconds(Long.getLong("driver.pool.maxAgeSeconds", 600)),
+                Integer.getInteger("driver.pool.maxUses", 50));
+
+        static {
+            // short-lived pools (NavigationService) are closed by their owner; only the shared one lives to exit
+            Runtime.getRuntime().addShutdownHook(new Thread(POOL::close, "driver-pool-shutdown"));
+        }
+    }
+
+    private static final class PooledSession {
+        private final WebDriver driver;
+        private final long createdAt = System.nanoTime();
+        private int uses;
+
+        private PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        private boolean expired(Duration maxAge, int maxUses) {
+            return uses >= maxUses || System.nanoTime() - createdAt > maxAge.toNanos();
+        }
+    }
+
+    // Counters are cumulative for the JVM; averages show how much launch time the pool saved.
+    public static final class Stats {
+        private final AtomicLong borrows = new AtomicLong();
+        private final AtomicLong reuses = new AtomicLong();
+        private final AtomicLong launches = new AtomicLong();
+        private final AtomicLong resets = new AtomicLong();
+        private final AtomicLong retired = new AtomicLong();
+        private final AtomicLong borrowNanos = new AtomicLong();
+        private final AtomicLong launchNanos = new AtomicLong();
+        private final AtomicLong resetNanos = new AtomicLong();
+
+        public long borrows() {
+            return borrows.get();
+        }
+
+        public long reuses() {
+            return reuses.get();
+        }
+
+        public long launches() {
+            return launches.get();
+        }
+
+        public long retired() {
+            return retired.get();
+        }
+
+        public double averageBorrowMillis() {
+            return averageMillis(borrowNanos, borrows);
+        }
+
+        public double averageLaunchMillis() {
+            return averageMillis(launchNanos, launches);
+        }
+
+        public double averageResetMillis() {
+            return averageMillis(resetNanos, resets);
+        }
+
+        // Launch time avoided by reuse, minus the time spent resetting sessions.
+        public double savedMillis() {
+            return reuses.get() * averageLaunchMillis() - TimeUnit.NANOSECONDS.toMillis(resetNanos.get());
+        }
+
+        private static double averageMillis(AtomicLong nanos, AtomicLong count) {
+            long n = count.get();
+            return n == 0 ? 0 : nanos.get() / 1_000_000.0 / n;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "[driver-pool] borrows=%d reuses=%d launches=%d retired=%d avgBorrowMs=%.1f avgLaunchMs=%.1f avgResetMs=%.1f savedMs=%.0f",
+                    borrows(), reuses(), launches(), retired(), averageBorrowMillis(), averageLaunchMillis(),
+                    averageResetMillis(), savedMillis());
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+// Per-page element cache: a locator is resolved once per navigation and condition (visible,
+// clickable, ...) and the WebElement reused. A hit re-checks the condition on the cached node - one
+// round trip instead of a find plus a wait - and falls back to the full wait when it no longer holds.
+// Cached elements re-resolve transparently when the DOM node was replaced (stale reference).
+// Page objects are thread-confined, so the map itself needs no locking.
+public final class ElementCache {
+    private static final AtomicLong TOTAL_HITS = new AtomicLong();
+    private static final AtomicLong TOTAL_MISSES = new AtomicLong();
+    private static final AtomicLong TOTAL_REFRESHES = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (TOTAL_HITS.get() + TOTAL_MISSES.get() > 0) {
+                System.out.println(totals());
+            }
+        }, "element-cache-report"));
+    }
+
+    private final Map<Key, WebElement> elements = new HashMap<>();
+    private long hits;
+    private long misses;
+    private long refreshes;
+
+    // condition names the check (e.g. "visible"); holds is that check on an already found element.
+    WebElement get(By locator, String condition, Predicate<WebElement> holds, Function<By, WebElement> resolver) {
+        Key key = new Key(locator, condition);
+        WebElement cached = elements.get(key);
+        if (cached != null && stillHolds(cached, holds)) {
+            hits++;
+            TOTAL_HITS.incrementAndGet();
+            return cached;
+        }
+        misses++;
+        TOTAL_MISSES.incrementAndGet();
+        WebElement element = new CachedElement(locator, resolver, resolver.apply(locator));
+        elements.put(key, element);
+        return element;
+    }
+
+    private boolean stillHolds(WebElement cached, Predicate<WebElement> holds) {
+        try {
+            return holds.test(((WrapsElement) cached).getWrappedElement());
+        } catch (StaleElementReferenceException stale) {
+            refreshes++;
+            TOTAL_REFRESHES.incrementAndGet();
+            return false;
+        }
+    }
+
+    // Called on navigation: every element from the previous document is gone.
+    void invalidate() {
+        elements.clear();
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    public long staleRefreshes() {
+        return refreshes;
+    }
+
+    public static String totals() {
+        return String.format("[element-cache] hits=%d misses=%d staleRefreshes=%d",
+                TOTAL_HITS.get(), TOTAL_MISSES.get(), TOTAL_REFRESHES.get());
+    }
+
+    private record Key(By locator, String condition) {
+    }
+
+    private final class CachedElement implements WebElement, WrapsElement {
+        private final By locator;
+        private final Function<By, WebElement> resolver;
+        private WebElement delegate;
+
+        private CachedElement(By locator, Function<By, WebElement> resolver, WebElement delegate) {
+            this.locator = locator;
+            this.resolver = resolver;
+            this.delegate = delegate;
+        }
+
+        private <T> T call(Function<WebElement, T> action) {
+            try {
+                return action.apply(delegate);
+            } catch (StaleElementReferenceException stale) {
+                refreshes++;
+                TOTAL_REFRESHES.incrementAndGet();
+                delegate = resolver.apply(locator);
+                return action.apply(delegate);
+            }
+        }
+
+        private void run(Consumer<WebElement> action) {
+            call(element -> {
+                action.accept(element);
+                return null;
+            });
+        }
+
+        @Override
+        public WebElement getWrappedElement() {
+            return delegate;
+        }
+
+        @Override
+        public void click() {
+            run(WebElement::click);
+        }
+
+        @Override
+        public void submit() {
+            run(WebElement::submit);
+        }
+
+        @Override
+        public void sendKeys(CharSequence... keysToSend) {
+            run(element -> element.sendKeys(keysToSend));
+        }
+
+        @Override
+        public void clear() {
+            run(WebElement::clear);
+        }
+
+        @Override
+        public String getTagName() {
+            return call(WebElement::getTagName);
+        }
+
+        @Override
+        public String getDomProperty(String name) {
+            return call(element -> element.getDomProperty(name));
+        }
+
+        @Override
+        public String getDomAttribute(String name) {
+            return call(element -> element.getDomAttribute(name));
+        }
+
+        @Override
+        public String getAttribute(String name) {
+            return call(element -> element.getAttribute(name));
+        }
+
+        @Override
+        public String getAriaRole() {
+            return call(WebElement::getAriaRole);
+        }
+
+        @Override
+        public String getAccessibleName() {
+            return call(WebElement::getAccessibleName);
+        }
+
+        @Override
+        public boolean isSelected() {
+            return call(WebElement::isSelected);
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return call(WebElement::isEnabled);
+        }
+
+        @Override
+        public String getText() {
+            return call(WebElement::getText);
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return call(element -> element.findElements(by));
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            return call(element -> element.findElement(by));
+        }
+
+        @Override
+        public SearchContext getShadowRoot() {
+            return call(WebElement::getShadowRoot);
+        }
+
+        @Override
+        public boolean isDisplayed() {
+            return call(WebElement::isDisplayed);
+        }
+
+        @Override
+        public Point getLocation() {
+            return call(WebElement::getLocation);
+        }
+
+        @Override
+        public Dimension getSize() {
+            return call(WebElement::getSize);
+        }
+
+        @Override
+        public Rectangle getRect() {
+            return call(WebElement::getRect);
+        }
+
+        @Override
+        public String getCssValue(String propertyName) {
+            return call(element -> element.getCssValue(propertyName));
+        }
+
+        @Override
+        public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+            return call(element -> element.getScreenshotAs(target));
+        }
+
+        @Override
+        public String toString() {
+            return "Cached[" + locator + "]";
+        }
+    }
+}
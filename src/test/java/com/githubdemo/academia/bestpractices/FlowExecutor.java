@@ -0,0 +1,69 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Reporter;
+
+// Runs FlowSteps against the live browser state: a step whose ensures already hold is skipped,
+// and a missing requires state is reached through the graph step that ensures it (recursively),
+// so chained flows on a shared session do not repeat navigation or login.
+// Actions run under StepRetry; the ensures check afterwards is not retried, so a slow result
+// (e.g. a form confirmation) is waited for instead of repeating the action.
+public final class FlowExecutor {
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+    private final List<FlowStep> graph;
+    private final Deque<FlowState> reaching = new ArrayDeque<>();
+
+    public FlowExecutor(WebDriver driver, WebDriverWait wait, List<FlowStep> graph) {
+        this.driver = driver;
+        this.wait = wait;
+        this.graph = List.copyOf(graph);
+    }
+
+    public void reach(FlowState target) {
+        if (target.holds(driver)) {
+            return;
+        }
+        if (reaching.contains(target)) {
+            throw new IllegalStateException("Flow graph cycle while reaching " + target + " via " + reaching);
+        }
+        FlowStep producer = graph.stream()
+                .filter(step -> step.ensures().contains(target))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No flow step establishes " + target));
+        reaching.push(target);
+        try {
+            run(producer);
+        } finally {
+            reaching.pop();
+        }
+    }
+
+    public void run(FlowStep step) {
+        long start = System.nanoTime();
+        if (!step.ensures().isEmpty() && step.ensures().stream().allMatch(state -> state.holds(driver))) {
+            Reporter.log("[flow] skipped " + step.name() + ": " + step.ensures() + " already hold");
+            StepTimeline.record("flow", step.name(), start, System.nanoTime(), Map.of("skipped", true));
+            return;
+        }
+        for (FlowState required : step.requires()) {
+            reach(required);
+        }
+        StepRetry.run(driver, step.name(), () -> step.action().accept(driver));
+        for (FlowState ensured : step.ensures()) {
+            try {
+                wait.until(ignored -> ensured.holds(driver));
+            } catch (TimeoutException e) {
+                throw new AssertionError("Flow step " + step.name() + " did not establish " + ensured, e);
+            }
+        }
+        StepTimeline.record("flow", step.name(), start, System.nanoTime(), Map.of("skipped", false));
+    }
+}
@@ -0,0 +1,24 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.util.function.Predicate;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+// A named browser condition ("logged in", "on contact page") checked against the current page
+// without waiting, so the flow executor can decide cheaply whether a step is still needed.
+public record FlowState(String name, Predicate<WebDriver> check) {
+    public boolean holds(WebDriver driver) {
+        try {
+            return check.test(driver);
+        } catch (WebDriverException e) {
+            // page mid-navigation or element detached: treat as not (yet) satisfied
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,15 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.openqa.selenium.WebDriver;
+
+// Reusable page-object step: runs only when one of its ensures states is missing, after the flow
+// executor has established every requires state. Steps without ensures always run.
+public record FlowStep(String name, Set<FlowState> requires, Set<FlowState> ensures, Consumer<WebDriver> action) {
+    public FlowStep {
+        requires = Set.copyOf(requires);
+        ensures = Set.copyOf(ensures);
+    }
+}
@@ -0,0 +1,123 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+// Fills a whole form in one executeAsyncScript round trip instead of wait + clear + sendKeys per field.
+// Values go through the native value setter and fire input/change, so framework listeners see them.
+// Fields listed in typeNatively (key handlers, masks, autocomplete), contenteditable elements and
+// fields the script cannot set still get real sendKeys(). Fields are filled in the map's iteration
+// order, so pass a LinkedHashMap when more than one field is set.
+public final class FormFiller {
+    private static final Duration FIELD_TIMEOUT = Duration.ofSeconds(10);
+    private static final Set<String> IN_PAGE_STRATEGIES = Set.of("css selector", "xpath", "id", "name", "class name", "tag name");
+    private static final String SCRIPT = String.join("\n",
+            "const fields = arguments[0], timeoutMs = arguments[1], done = arguments[arguments.length - 1];",
+            "const find = (f) => {",
+            "  switch (f.using) {",
+            "    case 'xpath': return document.evaluate(f.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;",
+            "    case 'id': return document.getElementById(f.value);",
+            "    case 'name': return document.getElementsByName(f.value)[0];",
+            "    case 'class name': return document.getElementsByClassName(f.value)[0];",
+            "    case 'tag name': return document.getElementsByTagName(f.value)[0];",
+            "    default: return document.querySelector(f.value);",
+            "  }",
+            "};",
+            "const ready = (el) => el && !el.disabled && el.getClientRects().length > 0;",
+            "const start = performance.now();",
+            "(function attempt() {",
+            "  const elements = fields.map(find);",
+            "  if (!elements.every(ready) && performance.now() - start < timeoutMs) return setTimeout(attempt, 50);",
+            "  const unresolved = [];",
+            "  elements.forEach((el, i) => {",
+            "    const proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype",
+            "      : el instanceof HTMLSelectElement ? HTMLSelectElement.prototype",
+            "      : el instanceof HTMLInputElement ? HTMLInputElement.prototype : null;",
+            "    if (!ready(el) || !proto) { unresolved.push(i); return; }",
+            "    try {",
+            "      el.focus();",
+            "      Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, fields[i].text);",
+            "      el.dispatchEvent(new Event('input', { bubbles: true }));",
+            "      el.dispatchEvent(new Event('change', { bubbles: true }));",
+            "      el.blur();",
+            "    } catch (e) { unresolved.push(i); }",
+            "  });",
+            "  done(unresolved);",
+            "})();");
+
+    private FormFiller() {
+    }
+
+    public static void fill(WebDriver driver, WebDriverWait wait, Map<By, String> values) {
+        fill(driver, wait, values, Set.of());
+    }
+
+    public static void fill(WebDriver driver, WebDriverWait wait, Map<By, String> values, Set<By> typeNatively) {
+        List<By> scripted = new ArrayList<>();
+        List<By> typed = new ArrayList<>();
+        List<Map<String, String>> descriptors = new ArrayList<>();
+        for (Map.Entry<By, String> entry : values.entrySet()) {
+            Map<String, String> descriptor = typeNatively.contains(entry.getKey()) ? null : describe(entry.getKey());
+            if (descriptor == null) {
+                typed.add(entry.getKey());
+            } else {
+                scripted.add(entry.getKey());
+                descriptors.add(Map.of("using", descriptor.get("using"), "value", descriptor.get("value"),
+                        "text", entry.getValue()));
+            }
+        }
+
+        if (!descriptors.isEmpty()) {
+            List<?> unresolved;
+            try {
+                unresolved = (List<?>) ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT, descriptors,
+                        FIELD_TIMEOUT.toMillis());
+            } catch (ScriptTimeoutException | JavascriptException e) {
+                // the script could not run on this page: type every field instead
+                unresolved = null;
+            }
+            if (unresolved == null) {
+                typed.addAll(scripted);
+            } else {
+                for (Object index : unresolved) {
+                    typed.add(scripted.get(((Number) index).intValue()));
+                }
+            }
+        }
+
+        // native path: real key events, and the regular wait/timeout error for fields that never appeared;
+        // typed in the caller's order, since one field's handlers may depend on another's value
+        List<By> order = new ArrayList<>(values.keySet());
+        typed.sort(Comparator.comparingInt(order::indexOf));
+        for (By locator : typed) {
+            WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
+            element.clear();
+            element.sendKeys(values.get(locator));
+        }
+    }
+
+    // Translates a locator into its "using"/"value" pair; null (e.g. link text) means type natively.
+    private static Map<String, String> describe(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        if (!IN_PAGE_STRATEGIES.contains(parameters.using())) {
+            return null;
+        }
+        return Map.of("using", parameters.using(), "value", String.valueOf(parameters.value()));
+    }
+}
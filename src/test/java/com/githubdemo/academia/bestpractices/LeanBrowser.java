@@ -0,0 +1,165 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v118.fetch.Fetch;
+import org.openqa.selenium.devtools.v118.fetch.model.RequestPattern;
+import org.openqa.selenium.devtools.v118.fetch.model.RequestStage;
+import org.openqa.selenium.devtools.v118.network.Network;
+import org.openqa.selenium.devtools.v118.network.model.ErrorReason;
+import org.openqa.selenium.devtools.v118.network.model.ResourceType;
+import org.openqa.selenium.devtools.v118.page.Page;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.Browser;
+
+// "Lean" browser profile (-Dbrowser.profile=lean): headless, and on Chromium the DevTools Fetch
+// domain fails matching third-party URLs and heavy resource types before they hit the network.
+// Images are left alone by default because tests assert on them (Traineri checks the trainer photo).
+// Blocked requests are counted per top-level page next to the bytes that actually arrived
+// (Network.loadingFinished); blocked responses are never downloaded, so no size is claimed for them.
+public final class LeanBrowser {
+    private static final List<String> BLOCKED_URLS = split(System.getProperty("lean.blockUrls",
+            "*google-analytics.com*,*googletagmanager.com*,*doubleclick.net*,*facebook.net*,*facebook.com/tr*,"
+                    + "*hotjar.com*,*tawk.to*,*clarity.ms*,*fonts.googleapis.com*,*fonts.gstatic.com*"));
+    private static final List<String> BLOCKED_TYPES = split(System.getProperty("lean.blockTypes", "Font,Media"));
+    private static final Map<WebDriver, Session> SESSIONS = new ConcurrentHashMap<>();
+    private static final AtomicLong TOTAL_BLOCKED = new AtomicLong();
+    private static final AtomicLong TOTAL_TRANSFERRED_BYTES = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (TOTAL_BLOCKED.get() > 0) {
+                System.out.printf("[lean] total blocked=%d transferredKB=%d%n", TOTAL_BLOCKED.get(),
+                        TOTAL_TRANSFERRED_BYTES.get() / 1024);
+            }
+        }, "lean-browser-report"));
+    }
+
+    private LeanBrowser() {
+    }
+
+    public static boolean enabled() {
+        return "lean".equalsIgnoreCase(System.getProperty("browser.profile", ""));
+    }
+
+    public static void configure(ChromeOptions options) {
+        options.addArguments("--headless=new", "--window-size=1920,1080");
+    }
+
+    public static void configure(FirefoxOptions options) {
+        options.addArguments("-headless", "-width=1920", "-height=1080");
+    }
+
+    // Chromium only: Firefox lean runs are headless without request blocking. FirefoxDriver and an
+    // augmented Grid session of Firefox implement HasDevTools too, but the v118 Fetch domain is Chrome's.
+    public static void attach(WebDriver driver) {
+        if (!chromium(driver) || !(driver instanceof HasDevTools)) {
+            return;
+        }
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        Session session = new Session(devTools);
+        SESSIONS.put(driver, session);
+
+        List<RequestPattern> patterns = new ArrayList<>();
+        for (String url : BLOCKED_URLS) {
+            patterns.add(new RequestPattern(Optional.of(url), Optional.empty(), Optional.of(RequestStage.REQUEST)));
+        }
+        for (String type : BLOCKED_TYPES) {
+            patterns.add(new RequestPattern(Optional.of("*"), Optional.of(ResourceType.fromString(type)),
+                    Optional.of(RequestStage.REQUEST)));
+        }
+
+        devTools.send(Page.enable());
+        devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+        devTools.addListener(Page.frameNavigated(), navigated -> {
+            if (navigated.getFrame().getParentId().isEmpty()) {
+                session.startPage(navigated.getFrame().getUrl());
+            }
+        });
+        devTools.addListener(Network.loadingFinished(),
+                finished -> session.transferred(finished.getEncodedDataLength().longValue()));
+        // only requests matching a pattern are paused, so every paused request is one we block
+        devTools.addListener(Fetch.requestPaused(), paused -> {
+            session.blocked(paused.getResourceType());
+            devTools.send(Fetch.failRequest(paused.getRequestId(), ErrorReason.BLOCKEDBYCLIENT));
+        });
+        devTools.send(Fetch.enable(Optional.of(patterns), Optional.empty()));
+    }
+
+    // Prints the last page's numbers and releases the DevTools connection; call before quit().
+    public static void detach(WebDriver driver) {
+        WebDriver original = driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+        Session session = SESSIONS.remove(original);
+        if (session != null) {
+            session.startPage(null);
+            session.devTools.close();
+        }
+    }
+
+    // A local ChromeDriver/EdgeDriver, or a Grid RemoteWebDriver (augmented by DriverFactory) whose
+    // session is Chrome or Edge.
+    static boolean chromium(WebDriver driver) {
+        if (driver instanceof ChromiumDriver) {
+            return true;
+        }
+        if (!(driver instanceof HasCapabilities)) {
+            return false;
+        }
+        Capabilities capabilities = ((HasCapabilities) driver).getCapabilities();
+        return Browser.CHROME.is(capabilities) || Browser.EDGE.is(capabilities);
+    }
+
+    private static List<String> split(String csv) {
+        return Arrays.stream(csv.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+
+    private static final class Session {
+        private final DevTools devTools;
+        private String url;
+        private long blocked;
+        private long transferredBytes;
+        private final Map<String, Long> blockedByType = new TreeMap<>();
+
+        private Session(DevTools devTools) {
+            this.devTools = devTools;
+        }
+
+        private synchronized void startPage(String nextUrl) {
+            if (url != null && (blocked > 0 || transferredBytes > 0)) {
+                System.out.printf("[lean] %s blocked=%d %s transferredKB=%d%n", url, blocked, blockedByType,
+                        transferredBytes / 1024);
+            }
+            url = nextUrl;
+            blocked = 0;
+            transferredBytes = 0;
+            blockedByType.clear();
+        }
+
+        private synchronized void blocked(ResourceType type) {
+            blocked++;
+            blockedByType.merge(type.toString(), 1L, Long::sum);
+            TOTAL_BLOCKED.incrementAndGet();
+        }
+
+        private synchronized void transferred(long bytes) {
+            transferredBytes += bytes;
+            TOTAL_TRANSFERRED_BYTES.addAndGet(bytes);
+        }
+    }
+}
@@ -1,8 +1,94 @@
 package com.githubdemo.academia.bestpractices;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.openqa.selenium.WebDriver;
+
 // Polymorphism consumer: works with any SectionNavigator implementation.
 public class NavigationService {
     public void visitSection(SectionNavigator section) {
         section.navigate();
     }
+
+    // Visits every section concurrently: one virtual thread per section, at most `sessions` browsers
+    // from a private pool closed afterwards. Never the shared DriverPool: the calling test already
+    // holds one of its sessions, so borrowing more from it can wait forever once it is exhausted.
+    // Sections are bound to a driver, so callers pass factories such as DocsSection::new.
+    // Results come back in input order; a failing section never stops the others.
+    public List<SectionResult> visitAll(List<? extends Function<WebDriver, ? extends SectionNavigator>> sections,
+                                        int sessions) {
+        DriverPool pool = new DriverPool(DriverFactory::createDriver, sessions, Duration.ofMinutes(10), Integer.MAX_VALUE);
+        String parentTest = StepTimeline.currentTest();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<SectionResult>> futures = new ArrayList<>();
+            for (Function<WebDriver, ? extends SectionNavigator> section : sections) {
+                futures.add(executor.submit(() -> visit(pool, section, parentTest)));
+            }
+            List<SectionResult> results = new ArrayList<>();
+            for (Future<SectionResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while visiting sections", ie);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Section visit crashed", e.getCause());
+        } finally {
+            pool.close();
+        }
+    }
+
+    public List<SectionResult> visitAll(List<? extends Function<WebDriver, ? extends SectionNavigator>> sections) {
+        return visitAll(sections, Integer.getInteger("navigation.sessions", 4));
+    }
+
+    private SectionResult visit(DriverPool pool, Function<WebDriver, ? extends SectionNavigator> factory,
+                                String parentTest) {
+        long queued = System.nanoTime();
+        WebDriver driver = pool.borrow();
+        long start = System.nanoTime();
+        String name = "section";
+        boolean timeline = false;
+        // everything after borrow() is inside the try, so a failing factory still returns the permit
+        try {
+            SectionNavigator section = factory.apply(driver);
+            name = section.getClass().getSimpleName();
+            StepTimeline.begin(parentTest == null ? name : parentTest + "." + name);
+            timeline = true;
+            visitSection(section);
+            pool.release(driver);
+            return new SectionResult(name, Duration.ofNanos(start - queued), Duration.ofNanos(System.nanoTime() - start),
+                    null);
+        } catch (AssertionError | RuntimeException e) {
+            // the page may be half-loaded or the session broken: do not hand it to the next section
+            pool.invalidate(driver);
+            return new SectionResult(name, Duration.ofNanos(start - queued), Duration.ofNanos(System.nanoTime() - start),
+                    e);
+        } finally {
+            if (timeline) {
+                StepTimeline.end();
+            }
+        }
+    }
+
+    // sessionWait is time spent queued for a free browser; duration is the navigation itself.
+    public record SectionResult(String section, Duration sessionWait, Duration duration, Throwable failure) {
+        public boolean passed() {
+            return failure == null;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s in %dms (waited %dms for a session)%s", section, passed() ? "passed" : "FAILED",
+                    duration.toMillis(), sessionWait.toMillis(), passed() ? "" : ": " + failure);
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+
+// Replaces fixed "let the UI settle" sleeps: returns as soon as the page has had no DOM mutations,
+// finite CSS animations/transitions or in-flight fetch/XHR for the quiet window.
+// Runs entirely in-page (one executeAsyncScript round trip), so it works for every browser.
+// Elementor pages (sliders, counters, parallax) can keep mutating for as long as they are open, so
+// the default cap is 2 s. A wait that hits it is recorded as a capped "wait:quiescence" step
+// (-Dtimings=true) and counted in the [quiet] report at exit.
+public final class PageQuiescence {
+    public static final Duration DEFAULT_QUIET_WINDOW = Duration.ofMillis(Long.getLong("quiet.windowMs", 300));
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMillis(Long.getLong("quiet.timeoutMs", 2_000));
+    private static final AtomicLong WAITS = new AtomicLong();
+    private static final AtomicLong CAPPED = new AtomicLong();
+
+    // Instrumentation is installed once per document; fetch/XHR started before it are only covered
+    // through document.readyState, which is good enough after a navigation has completed.
+    private static final String SCRIPT = String.join("\n",
+            "const quietMs = arguments[0], timeoutMs = arguments[1], done = arguments[arguments.length - 1];",
+            "if (!window.__quiescence) {",
+            "  const q = window.__quiescence = { last: performance.now(), inflight: 0 };",
+            "  const touch = () => { q.last = performance.now(); };",
+            "  new MutationObserver(touch).observe(document, { subtree: true, childList: true, attributes: true, characterData: true });",
+            "  if (window.fetch) {",
+            "    const fetch = window.fetch;",
+            "    window.fetch = function () {",
+            "      q.inflight++; touch();",
+            "      return fetch.apply(this, arguments).finally(() => { q.inflight--; touch(); });",
+            "    };",
+            "  }",
+            "  const send = XMLHttpRequest.prototype.send;",
+            "  XMLHttpRequest.prototype.send = function () {",
+            "    q.inflight++; touch();",
+            "    this.addEventListener('loadend', () => { q.inflight--; touch(); });",
+            "    return send.apply(this, arguments);",
+            "  };",
+            "}",
+            "const q = window.__quiescence, start = performance.now();",
+            // infinite animations (spinners, marquees) never finish, so they do not count as activity
+            "const animating = () => !!document.getAnimations && document.getAnimations().some(a =>",
+            "  a.playState === 'running' && a.effect && a.effect.getTiming().iterations !== Infinity);",
+            "(function check() {",
+            "  const now = performance.now();",
+            "  if (q.inflight > 0 || document.readyState !== 'complete' || animating()) q.last = now;",
+            "  if (now - q.last >= quietMs) return done(true);",
+            "  if (now - start >= timeoutMs) return done(false);",
+            "  setTimeout(check, 50);",
+            "})();");
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (CAPPED.get() > 0) {
+                System.out.printf("[quiet] %d of %d waits hit the timeout before the page went quiet%n",
+                        CAPPED.get(), WAITS.get());
+            }
+        }, "quiescence-report"));
+    }
+
+    private PageQuiescence() {
+    }
+
+    public static boolean await(WebDriver driver) {
+        return await(driver, DEFAULT_QUIET_WINDOW, DEFAULT_TIMEOUT);
+    }
+
+    // Returns false if the page is still busy after the timeout; callers that used to sleep just continue.
+    public static boolean await(WebDriver driver, Duration quietWindow, Duration timeout) {
+        long start = System.nanoTime();
+        boolean quiet;
+        try {
+            quiet = Boolean.TRUE.equals(((JavascriptExecutor) driver).executeAsyncScript(SCRIPT,
+                    quietWindow.toMillis(), timeout.toMillis()));
+        } catch (ScriptTimeoutException e) {
+            // the driver's script timeout is shorter than the requested timeout
+            quiet = false;
+        }
+        WAITS.incrementAndGet();
+        if (!quiet) {
+            CAPPED.incrementAndGet();
+        }
+        StepTimeline.record("wait", "quiescence", start, System.nanoTime(),
+                quiet ? null : Map.of("capped", true, "timeoutMs", timeout.toMillis()));
+        return quiet;
+    }
+}
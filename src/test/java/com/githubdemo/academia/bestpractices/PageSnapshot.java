@@ -0,0 +1,172 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+// Everything a batch of assertions needs from the rendered page, fetched in one executeScript:
+// for each locator, every match with its tag, visibility (CSS-aware, like isDisplayed()), rendered
+// text (innerText, "" when hidden, like getText()) and attributes. Assertions then read the Java
+// model without further round trips. The model never updates by itself: call refresh() after
+// anything that changes the page.
+public final class PageSnapshot {
+    private static final String SCRIPT = String.join("\n",
+            "const specs = arguments[0];",
+            "const all = (s) => {",
+            "  switch (s.using) {",
+            "    case 'xpath': {",
+            "      const r = document.evaluate(s.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);",
+            "      return Array.from({ length: r.snapshotLength }, (_, i) => r.snapshotItem(i));",
+            "    }",
+            "    case 'id': return Array.from(document.querySelectorAll('#' + CSS.escape(s.value)));",
+            "    case 'name': return Array.from(document.getElementsByName(s.value));",
+            "    case 'class name': return Array.from(document.getElementsByClassName(s.value));",
+            "    case 'tag name': return Array.from(document.getElementsByTagName(s.value));",
+            "    case 'link text': return Array.from(document.querySelectorAll('a')).filter(a => a.innerText.trim() === s.value);",
+            "    case 'partial link text': return Array.from(document.querySelectorAll('a')).filter(a => a.innerText.includes(s.value));",
+            "    default: return Array.from(document.querySelectorAll(s.value));",
+            "  }",
+            "};",
+            "const visible = (el) => el.checkVisibility",
+            "  ? el.checkVisibility({ checkOpacity: true, checkVisibilityCSS: true })",
+            "  : el.getClientRects().length > 0 && getComputedStyle(el).visibility !== 'hidden';",
+            "const describe = (el) => {",
+            "  const shown = visible(el);",
+            "  const attributes = {};",
+            "  for (const a of el.attributes) attributes[a.name] = a.value;",
+            "  if ('value' in el && typeof el.value === 'string') attributes.value = el.value;",
+            "  const text = shown ? (el.innerText !== undefined ? el.innerText : el.textContent) : '';",
+            "  return { tag: el.tagName.toLowerCase(), visible: shown, text: text.trim(), attributes: attributes };",
+            "};",
+            "return { url: location.href, title: document.title,",
+            "  matches: specs.map(s => all(s).filter(n => n.nodeType === Node.ELEMENT_NODE).map(describe)) };");
+
+    private final WebDriver driver;
+    private final List<By> locators;
+    private final List<Map<String, String>> specs;
+    private Map<By, List<Element>> matches = Map.of();
+    private String url;
+    private String title;
+    private long capturedAtNanos;
+
+    private PageSnapshot(WebDriver driver, List<By> locators) {
+        this.driver = driver;
+        this.locators = List.copyOf(locators);
+        this.specs = new ArrayList<>();
+        for (By locator : this.locators) {
+            specs.add(describe(locator));
+        }
+    }
+
+    public record Element(String tag, boolean visible, String text, Map<String, String> attributes) {
+        public String attribute(String name) {
+            return attributes.get(name);
+        }
+    }
+
+    // Captures the current DOM without waiting; matches may be empty.
+    public static PageSnapshot capture(WebDriver driver, By... locators) {
+        return new PageSnapshot(driver, List.of(locators)).refresh();
+    }
+
+    // Re-captures until every locator has a visible match, so the wait and the capture share round trips.
+    public static PageSnapshot await(WebDriver driver, WebDriverWait wait, By... locators) {
+        PageSnapshot snapshot = new PageSnapshot(driver, List.of(locators));
+        return wait.until(ignored -> {
+            try {
+                snapshot.refresh();
+            } catch (JavascriptException e) {
+                // document replaced mid-script (navigation still settling): capture again
+                return null;
+            }
+            return snapshot.locators.stream().allMatch(snapshot::isVisible) ? snapshot : null;
+        });
+    }
+
+    public PageSnapshot refresh() {
+        long start = System.nanoTime();
+        Map<?, ?> result = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(SCRIPT, specs);
+        List<?> raw = (List<?>) result.get("matches");
+        Map<By, List<Element>> captured = new LinkedHashMap<>();
+        for (int i = 0; i < locators.size(); i++) {
+            List<Element> elements = new ArrayList<>();
+            for (Object match : (List<?>) raw.get(i)) {
+                elements.add(toElement((Map<?, ?>) match));
+            }
+            captured.put(locators.get(i), Collections.unmodifiableList(elements));
+        }
+        matches = captured;
+        url = String.valueOf(result.get("url"));
+        title = String.valueOf(result.get("title"));
+        capturedAtNanos = System.nanoTime();
+        StepTimeline.record("snapshot", "capture", start, capturedAtNanos, Map.of("locators", locators.size()));
+        return this;
+    }
+
+    public List<Element> elements(By locator) {
+        List<Element> elements = matches.get(locator);
+        if (elements == null) {
+            throw new IllegalArgumentException(locator + " is not part of this snapshot; captured: " + locators);
+        }
+        return elements;
+    }
+
+    public int count(By locator) {
+        return elements(locator).size();
+    }
+
+    public boolean isPresent(By locator) {
+        return !elements(locator).isEmpty();
+    }
+
+    public boolean isVisible(By locator) {
+        return elements(locator).stream().anyMatch(Element::visible);
+    }
+
+    // Text of the first visible match (what findElement(...).getText() would usually return); null if none.
+    public String text(By locator) {
+        return elements(locator).stream().filter(Element::visible).map(Element::text).findFirst().orElse(null);
+    }
+
+    public List<String> texts(By locator) {
+        return elements(locator).stream().filter(Element::visible).map(Element::text).toList();
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public String title() {
+        return title;
+    }
+
+    public long ageMillis() {
+        return (System.nanoTime() - capturedAtNanos) / 1_000_000;
+    }
+
+    private static Element toElement(Map<?, ?> json) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        ((Map<?, ?>) json.get("attributes")).forEach((name, value) ->
+                attributes.put(String.valueOf(name), Objects.toString(value, null)));
+        return new Element(String.valueOf(json.get("tag")), Boolean.TRUE.equals(json.get("visible")),
+                String.valueOf(json.get("text")), Collections.unmodifiableMap(attributes));
+    }
+
+    // Same locator translation as FormFiller, plus link text, which is resolved in-page here as well.
+    private static Map<String, String> describe(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("PageSnapshot needs a standard locator, got " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        return Map.of("using", parameters.using(), "value", String.valueOf(parameters.value()));
+    }
+}
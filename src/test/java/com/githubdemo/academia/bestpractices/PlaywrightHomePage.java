@@ -3,9 +3,11 @@ package com.githubdemo.academia.bestpractices;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
+import com.githubdemo.academia.fixtures.TargetSites;
+
 // Inheritance: concrete page object extending BasePage.
 public class PlaywrightHomePage extends BasePage {
-    private static final String URL = "https://playwright.dev/";
+    private static final String PATH = "/";
 
     // Locator-first style in Selenium: semantic locator first (link text) over brittle XPath.
     private static final By GET_STARTED_LINK = By.cssSelector("a[href='/docs/intro']");
@@ -16,15 +18,15 @@ public class PlaywrightHomePage extends BasePage {
     }
 
     public void open() {
-        open(URL);
+        open(TargetSites.playwright() + PATH);
     }
 
     public void goToGetStarted() {
-        clickFirstVisible(GET_STARTED_LINK);
+        step("goToGetStarted", () -> clickFirstVisible(GET_STARTED_LINK));
     }
 
     // Native Selenium interaction method.
     public void clickDocsLink() {
-        click(DOCS_LINK);
+        step("clickDocsLink", () -> click(DOCS_LINK));
     }
 }
@@ -0,0 +1,81 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+// Screenshot capture stays on the test thread (it needs the live session); decoding, hashing and
+// the ScreenshotStore write go to a bounded background writer so the test thread is released
+// right after capture.
+public final class ScreenshotService {
+    private static final ScreenshotService SHARED = new ScreenshotService(
+            Integer.getInteger("screenshots.writerThreads", 2),
+            Integer.getInteger("screenshots.queueSize", 32));
+
+    private final ThreadPoolExecutor writer;
+    private final ScreenshotStore store = ScreenshotStore.fromSystemProperties();
+    private final Queue<Future<ScreenshotStore.Entry>> pending = new ConcurrentLinkedQueue<>();
+
+    ScreenshotService(int threads, int queueSize) {
+        AtomicInteger counter = new AtomicInteger();
+        // CallerRunsPolicy: when the queue is full the test thread writes itself instead of
+        // buffering an unbounded number of PNGs in memory.
+        this.writer = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-writer-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.writer.allowCoreThreadTimeOut(true);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "screenshot-writer-flush"));
+    }
+
+    public static ScreenshotService shared() {
+        return SHARED;
+    }
+
+    public ScreenshotStore store() {
+        return store;
+    }
+
+    // Captures now; the entry (content hash, perceptual hash) is available once the future completes.
+    public Future<ScreenshotStore.Entry> capture(WebDriver driver, String folder, String name) {
+        long start = System.nanoTime();
+        String base64 = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        StepTimeline.record("capture", "screenshot", start, System.nanoTime(), Map.of("name", name));
+        Future<ScreenshotStore.Entry> entry = writer.submit(
+                () -> store.put(folder, name, Base64.getMimeDecoder().decode(base64)));
+        pending.add(entry);
+        return entry;
+    }
+
+    // Blocks until every queued screenshot is stored, then writes the run manifest; call at suite end.
+    public int flush() {
+        int failures = 0;
+        Future<ScreenshotStore.Entry> next;
+        while ((next = pending.poll()) != null) {
+            try {
+                next.get();
+            } catch (ExecutionException e) {
+                failures++;
+                System.err.println("[screenshots] write failed: " + e.getCause());
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return failures;
+            }
+        }
+        store.finishRun();
+        return failures;
+    }
+}
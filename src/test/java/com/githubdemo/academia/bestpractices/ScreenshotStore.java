@@ -0,0 +1,326 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import org.openqa.selenium.json.Json;
+
+// Content-addressed screenshot store: every PNG is stored once under objects/<ab>/<sha256>.png and
+// each run writes runs/<runId>.json listing folder/name -> hash plus a 64-bit difference hash
+// (dHash) of the image. Comparing against the last passing run is then a manifest lookup and a
+// popcount, no image decoding. Only the newest screenshots.keepRuns manifests (and the latest
+// passing one) are kept; objects no manifest references are swept after each run.
+public final class ScreenshotStore {
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+    // objects written by a concurrent run (other shard JVMs) before its manifest exists survive the sweep
+    private static final Duration SWEEP_GRACE = Duration.ofHours(1);
+    private static final Json JSON = new Json();
+
+    private final Path root;
+    private final int keepRuns;
+    private final int diffThreshold;
+    private final String runId = LocalDateTime.now().format(RUN_ID) + "_" + ProcessHandle.current().pid();
+    private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+    private volatile Manifest baseline;
+    private int written;
+
+    ScreenshotStore(Path root, int keepRuns, int diffThreshold) {
+        this.root = root;
+        this.keepRuns = Math.max(1, keepRuns);
+        this.diffThreshold = diffThreshold;
+    }
+
+    static ScreenshotStore fromSystemProperties() {
+        return new ScreenshotStore(Paths.get(System.getProperty("screenshots.store", "screenshots/store")),
+                Integer.getInteger("screenshots.keepRuns", 20),
+                Integer.getInteger("screenshots.diffThreshold", 6));
+    }
+
+    public record Entry(String folder, String name, String sha256, long dhash, int bytes, boolean newObject) {
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("folder", folder);
+            json.put("name", name);
+            json.put("sha256", sha256);
+            json.put("dhash", Long.toHexString(dhash));
+            json.put("bytes", bytes);
+            return json;
+        }
+
+        static Entry fromJson(Map<?, ?> json) {
+            return new Entry((String) json.get("folder"), (String) json.get("name"), (String) json.get("sha256"),
+                    Long.parseUnsignedLong((String) json.get("dhash"), 16), ((Number) json.get("bytes")).intValue(),
+                    false);
+        }
+    }
+
+    // distance is the Hamming distance of the dHashes: 0 = same layout, > threshold = visibly changed.
+    public record Comparison(Entry current, Entry baseline, int distance, boolean identical, boolean changed) {
+    }
+
+    // Called on the writer thread; safe for concurrent use.
+    public Entry put(String folder, String name, byte[] png) throws IOException {
+        String sha = sha256(png);
+        Path object = objectPath(sha);
+        boolean created = false;
+        if (Files.exists(object)) {
+            // refresh mtime so a concurrent sweep treats it as in use
+            Files.setLastModifiedTime(object, FileTime.from(Instant.now()));
+        } else {
+            Files.createDirectories(object.getParent());
+            Path temp = Files.createTempFile(object.getParent(), sha, ".tmp");
+            Files.write(temp, png);
+            try {
+                Files.move(temp, object, StandardCopyOption.ATOMIC_MOVE);
+                created = true;
+            } catch (FileAlreadyExistsException raced) {
+                Files.deleteIfExists(temp);
+            }
+        }
+        Entry entry = new Entry(folder, name, sha, dhash(png), png.length, created);
+        entries.add(entry);
+        return entry;
+    }
+
+    public Path objectPath(String sha256) {
+        return root.resolve("objects").resolve(sha256.substring(0, 2)).resolve(sha256 + ".png");
+    }
+
+    // Latest capture of folder/name in this run against the same capture in the last passing run.
+    // Names match without their _PASSED/_FAILED suffix: a failing test's "x_FAILED" is compared with the
+    // "x_PASSED" of the last run where it passed, which is the comparison that matters most.
+    // SeleniumBestPracticesTest only writes that baseline under -Dscreenshots.passed=true.
+    public Optional<Comparison> compareWithLastPassing(String folder, String name) {
+        Entry current = null;
+        for (Entry entry : entries) {
+            if (entry.folder.equals(folder) && sameCapture(entry.name, name)) {
+                current = entry;
+            }
+        }
+        Manifest last = lastPassing();
+        if (current == null || last == null) {
+            return Optional.empty();
+        }
+        Entry previous = last.find(folder, name);
+        if (previous == null) {
+            return Optional.empty();
+        }
+        int distance = Long.bitCount(current.dhash ^ previous.dhash);
+        return Optional.of(new Comparison(current, previous, distance, current.sha256.equals(previous.sha256),
+                distance > diffThreshold));
+    }
+
+    // Writes this run's manifest, applies retention and prints what changed; idempotent per batch.
+    public synchronized void finishRun() {
+        List<Entry> snapshot = new ArrayList<>(entries);
+        if (snapshot.size() == written) {
+            return;
+        }
+        written = snapshot.size();
+        boolean passed = snapshot.stream().noneMatch(entry -> entry.name.endsWith("_FAILED"));
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("run", runId);
+        manifest.put("passed", passed);
+        manifest.put("entries", snapshot.stream().map(Entry::toJson).toList());
+        try {
+            Path runs = root.resolve("runs");
+            Files.createDirectories(runs);
+            Files.writeString(runs.resolve(runId + ".json"), JSON.toJson(manifest), StandardCharsets.UTF_8);
+            report(snapshot);
+            evict();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void report(List<Entry> snapshot) {
+        long created = snapshot.stream().filter(Entry::newObject).count();
+        int changed = 0;
+        Set<String> seen = new HashSet<>();
+        for (Entry entry : snapshot) {
+            if (!seen.add(entry.folder + "/" + withoutStatus(entry.name))) {
+                continue;
+            }
+            Optional<Comparison> comparison = compareWithLastPassing(entry.folder, entry.name);
+            if (comparison.isPresent() && comparison.get().changed()) {
+                changed++;
+                System.out.printf("[screenshots] %s/%s changed vs last passing run (distance %d)%n", entry.folder,
+                        entry.name, comparison.get().distance());
+            }
+        }
+        System.out.printf("[screenshots] run %s: %d captures, %d new objects, %d deduplicated, %d changed%n",
+                runId, snapshot.size(), created, snapshot.size() - created, changed);
+    }
+
+    // Keeps the newest keepRuns manifests plus the last passing one, then sweeps unreferenced objects.
+    private void evict() throws IOException {
+        List<Path> manifests = manifests();
+        Path lastPassing = null;
+        for (Path manifest : manifests) {
+            if (!manifest.getFileName().toString().startsWith(runId) && read(manifest).passed) {
+                lastPassing = manifest;
+                break;
+            }
+        }
+        Set<String> referenced = new HashSet<>();
+        for (int i = 0; i < manifests.size(); i++) {
+            Path manifest = manifests.get(i);
+            if (i < keepRuns || manifest.equals(lastPassing)) {
+                read(manifest).entries.forEach(entry -> referenced.add(entry.sha256));
+            } else {
+                Files.deleteIfExists(manifest);
+            }
+        }
+        Path objects = root.resolve("objects");
+        if (!Files.isDirectory(objects)) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(SWEEP_GRACE);
+        int swept = 0;
+        try (Stream<Path> files = Files.walk(objects)) {
+            for (Path object : files.filter(Files::isRegularFile).toList()) {
+                String sha = object.getFileName().toString().replaceFirst("\\.png$", "");
+                if (!referenced.contains(sha) && Files.getLastModifiedTime(object).toInstant().isBefore(cutoff)) {
+                    Files.deleteIfExists(object);
+                    swept++;
+                }
+            }
+        }
+        if (swept > 0) {
+            System.out.printf("[screenshots] evicted %d unreferenced objects%n", swept);
+        }
+    }
+
+    // Newest first; run ids sort chronologically.
+    private List<Path> manifests() throws IOException {
+        Path runs = root.resolve("runs");
+        if (!Files.isDirectory(runs)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(runs)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .sorted(Comparator.comparing((Path file) -> file.getFileName().toString()).reversed())
+                    .toList();
+        }
+    }
+
+    private Manifest lastPassing() {
+        Manifest cached = baseline;
+        if (cached != null) {
+            return cached.entries.isEmpty() ? null : cached;
+        }
+        Manifest found = new Manifest(false, List.of());
+        try {
+            for (Path manifest : manifests()) {
+                if (manifest.getFileName().toString().startsWith(runId)) {
+                    continue;
+                }
+                Manifest candidate = read(manifest);
+                if (candidate.passed) {
+                    found = candidate;
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            // no baseline is the same as a first run
+        }
+        baseline = found;
+        return found.entries.isEmpty() ? null : found;
+    }
+
+    private static Manifest read(Path file) throws IOException {
+        Map<String, Object> json = JSON.toType(Files.readString(file, StandardCharsets.UTF_8), Json.MAP_TYPE);
+        List<Entry> entries = new ArrayList<>();
+        for (Object raw : (List<?>) json.getOrDefault("entries", List.of())) {
+            entries.add(Entry.fromJson((Map<?, ?>) raw));
+        }
+        return new Manifest(Boolean.TRUE.equals(json.get("passed")), entries);
+    }
+
+    private record Manifest(boolean passed, List<Entry> entries) {
+        Entry find(String folder, String name) {
+            Entry found = null;
+            for (Entry entry : entries) {
+                if (entry.folder.equals(folder) && sameCapture(entry.name, name)) {
+                    found = entry;
+                }
+            }
+            return found;
+        }
+    }
+
+    private static boolean sameCapture(String name, String other) {
+        return withoutStatus(name).equals(withoutStatus(other));
+    }
+
+    // "contactFormTest_FAILED" -> "contactFormTest"; names without a status suffix are kept as is.
+    static String withoutStatus(String name) {
+        return name.replaceFirst("_(PASSED|FAILED)$", "");
+    }
+
+    // 9x8 grid of average luminance (sampling every 4th pixel); bit = left cell brighter than right.
+    static long dhash(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            return 0;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double[][] cells = new double[8][9];
+        int[][] counts = new int[8][9];
+        for (int y = 0; y < height; y += 4) {
+            int row = Math.min(7, y * 8 / height);
+            for (int x = 0; x < width; x += 4) {
+                int column = Math.min(8, x * 9 / width);
+                int rgb = image.getRGB(x, y);
+                cells[row][column] += 0.299 * (rgb >> 16 & 0xff) + 0.587 * (rgb >> 8 & 0xff) + 0.114 * (rgb & 0xff);
+                counts[row][column]++;
+            }
+        }
+        long hash = 0;
+        for (int row = 0; row < 8; row++) {
+            for (int column = 0; column < 8; column++) {
+                double left = cells[row][column] / Math.max(1, counts[row][column]);
+                double right = cells[row][column + 1] / Math.max(1, counts[row][column + 1]);
+                hash = hash << 1 | (left > right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
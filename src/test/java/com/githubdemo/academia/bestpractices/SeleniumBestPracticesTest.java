@@ -1,77 +1,101 @@
 package com.githubdemo.academia.bestpractices;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.lang.reflect.Method;
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchSessionException;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.ITestResult;
+import org.testng.Reporter;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import com.githubdemo.academia.impact.DependencyMap;
+
 import static org.testng.Assert.assertTrue;
 
-// Test isolation: each test gets a fresh WebDriver session via @BeforeMethod/@AfterMethod.
+// Test isolation: each test gets a fresh (or pool-reset) WebDriver session via @BeforeMethod/@AfterMethod.
 public class SeleniumBestPracticesTest {
+    private static final boolean CAPTURE_PASSED = Boolean.getBoolean("screenshots.passed");
+    // Tests in this group open their own sessions (NavigationService), so setUp acquires none for them.
+    static final String OWN_SESSIONS = "own-sessions";
+
     private final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
 
     private WebDriver getDriver() {
         return driver.get();
     }
 
+    @BeforeClass(alwaysRun = true)
+    public void warmUpPool() {
+        if (DriverPool.enabled()) {
+            DriverPool.shared().warmUp(Integer.getInteger("driver.pool.warm", 3));
+        }
+    }
+
     @BeforeMethod(alwaysRun = true)
-    public void setUp() {
-        driver.set(DriverFactory.createDriver());
+    public void setUp(Method method) {
+        StepTimeline.begin(getClass().getSimpleName() + "." + method.getName());
+        if (!Arrays.asList(method.getAnnotation(Test.class).groups()).contains(OWN_SESSIONS)) {
+            driver.set(DriverFactory.acquireDriver());
+        }
     }
 
     @AfterMethod(alwaysRun = true)
     public void tearDownAndCaptureArtifacts(ITestResult result) {
         WebDriver currentDriver = getDriver();
         if (currentDriver == null) {
+            StepTimeline.end();
             return;
         }
 
-        // Trace/video equivalent in local Selenium: keep failure artifacts for debugging.
-        if (!result.isSuccess()) {
-            captureFailureScreenshot(currentDriver, result.getMethod().getMethodName());
+        // Trace/video equivalent in local Selenium: keep failure artifacts for debugging. Passing runs are
+        // captured only with -Dscreenshots.passed=true, as the baseline a later _FAILED capture is compared to.
+        if (!result.isSuccess() || CAPTURE_PASSED) {
+            captureResultScreenshot(currentDriver, result.getMethod().getMethodName(), result.isSuccess());
         }
 
-        currentDriver.quit();
+        if (result.isSuccess()) {
+            DriverFactory.releaseDriver(currentDriver);
+        } else {
+            DriverFactory.discardDriver(currentDriver);
+        }
         driver.remove();
+        StepTimeline.end();
     }
 
-    private void captureFailureScreenshot(WebDriver currentDriver, String methodName) {
+    private void captureResultScreenshot(WebDriver currentDriver, String methodName, boolean passed) {
         try {
-            Path folder = Paths.get("screenshots", "best-practices-java");
-            Files.createDirectories(folder);
-            String ts = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            File source = ((TakesScreenshot) currentDriver).getScreenshotAs(OutputType.FILE);
-            Files.copy(source.toPath(), folder.resolve(methodName + "_FAILED_" + ts + ".png"), StandardCopyOption.REPLACE_EXISTING);
+            ScreenshotService.shared().capture(currentDriver, "best-practices-java",
+                    methodName + (passed ? "_PASSED" : "_FAILED"));
         } catch (NoSuchSessionException ignored) {
         } catch (WebDriverException ignored) {
-        } catch (IOException ignored) {
         }
     }
 
+    @AfterSuite(alwaysRun = true)
+    public void flushArtifacts() {
+        ScreenshotService.shared().flush();
+        StepTimeline.writeSummary();
+        CommandTrace.write();
+        StepRetry.writeReport();
+        DependencyMap.write();
+    }
+
     @Test(description = "Locator-first + wait-driven navigation to Get started")
     public void usesLocatorFirstAndWaitWithoutSleeps() {
         WebDriver currentDriver = getDriver();
         PlaywrightHomePage homePage = new PlaywrightHomePage(currentDriver);
-        WebDriverWait wait = new WebDriverWait(currentDriver, Duration.ofSeconds(15));
+        WebDriverWait wait = new TimedWait(currentDriver, Duration.ofSeconds(15));
 
         homePage.open();
         homePage.goToGetStarted();
@@ -107,4 +131,15 @@ public class SeleniumBestPracticesTest {
         assertTrue(currentDriver.findElement(By.cssSelector("h1")).getText().trim().equals("Playwright Library"),
                 "Playwright Library heading should be visible");
     }
+
+    @Test(description = "NavigationService visits sections concurrently on separate sessions", groups = OWN_SESSIONS)
+    public void visitsSectionsConcurrently() {
+        NavigationService service = new NavigationService();
+
+        List<NavigationService.SectionResult> results = service.visitAll(List.of(DocsSection::new, ApiSection::new), 2);
+
+        results.forEach(result -> Reporter.log(result.toString()));
+        assertTrue(results.stream().allMatch(NavigationService.SectionResult::passed),
+                "Every section should pass: " + results);
+    }
 }
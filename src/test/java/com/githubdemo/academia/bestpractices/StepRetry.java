@@ -0,0 +1,150 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.testng.Reporter;
+
+// Checkpointed steps: the URL at the start of a step is its checkpoint. A transient failure (stale
+// element, intercepted/non-interactable click, a wait that timed out within steps.retry.timeoutUnderMs)
+// re-runs only that step in the same session, navigating back to the checkpoint first if the step
+// had already left it. Assertion errors and other failures propagate immediately.
+// Retries are logged to the TestNG report and summarised in target/steps/flaky-steps.json.
+public final class StepRetry {
+    private static final int ATTEMPTS = Math.max(1, Integer.getInteger("steps.retry.attempts", 2));
+    private static final long TIMEOUT_UNDER_NANOS =
+            TimeUnit.MILLISECONDS.toNanos(Long.getLong("steps.retry.timeoutUnderMs", 10_000));
+    private static final Path DIR = Paths.get(System.getProperty("steps.dir", "target/steps"));
+    private static final Map<String, StepStats> STATS = new ConcurrentHashMap<>();
+
+    private StepRetry() {
+    }
+
+    public static void run(WebDriver driver, String name, Runnable step) {
+        call(driver, name, () -> {
+            step.run();
+            return null;
+        }, () -> {
+        });
+    }
+
+    // beforeRetry resets caller state that did not survive the failure (e.g. an ElementCache).
+    public static <T> T call(WebDriver driver, String name, Supplier<T> step, Runnable beforeRetry) {
+        String checkpoint = currentUrl(driver);
+        // what a whole-test rerun would have to repeat to get back here
+        long reachedAfterNanos = StepTimeline.elapsedInTestNanos();
+        long stepStart = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            long attemptStart = System.nanoTime();
+            try {
+                T result = step.get();
+                if (attempt > 1) {
+                    recovered(name, attempt, reachedAfterNanos, stepStart);
+                }
+                StepTimeline.record("step", name, stepStart, System.nanoTime(), Map.of("attempts", attempt));
+                return result;
+            } catch (WebDriverException e) {
+                if (attempt >= ATTEMPTS || !isTransient(e, System.nanoTime() - attemptStart)) {
+                    if (attempt > 1) {
+                        stats(name).exhausted.incrementAndGet();
+                    }
+                    throw e;
+                }
+                stats(name).retries.incrementAndGet();
+                Reporter.log(String.format("[step-retry] %s attempt %d failed with %s; retrying in the same session",
+                        name, attempt, e.getClass().getSimpleName()));
+                beforeRetry.run();
+                restore(driver, checkpoint);
+            }
+        }
+    }
+
+    private static boolean isTransient(WebDriverException e, long attemptNanos) {
+        if (e instanceof TimeoutException) {
+            // shorter than the 15 s / 30 s explicit waits, so a wait that ran its full course is not retried
+            return attemptNanos <= TIMEOUT_UNDER_NANOS;
+        }
+        return e instanceof StaleElementReferenceException
+                || e instanceof ElementClickInterceptedException
+                || e instanceof ElementNotInteractableException;
+    }
+
+    private static void restore(WebDriver driver, String checkpoint) {
+        if (checkpoint != null && !checkpoint.equals(currentUrl(driver))) {
+            driver.get(checkpoint);
+            PageQuiescence.await(driver);
+        }
+    }
+
+    private static String currentUrl(WebDriver driver) {
+        try {
+            return driver.getCurrentUrl();
+        } catch (WebDriverException e) {
+            return null;
+        }
+    }
+
+    private static void recovered(String name, int attempt, long reachedAfterNanos, long stepStart) {
+        StepStats stats = stats(name);
+        stats.recovered.incrementAndGet();
+        // the step itself runs again either way; a whole-test rerun would also repeat everything before it
+        long stepNanos = System.nanoTime() - stepStart;
+        stats.savedNanos.addAndGet(reachedAfterNanos);
+        Reporter.log(String.format("[step-retry] %s recovered on attempt %d (step took %dms, saved ~%dms vs rerun)",
+                name, attempt, TimeUnit.NANOSECONDS.toMillis(stepNanos), TimeUnit.NANOSECONDS.toMillis(reachedAfterNanos)));
+    }
+
+    private static StepStats stats(String name) {
+        String test = StepTimeline.currentTest();
+        return STATS.computeIfAbsent(test == null ? name : test + "/" + name, key -> new StepStats());
+    }
+
+    // Flaky-step report across the JVM; call at suite end.
+    public static void writeReport() {
+        if (STATS.isEmpty()) {
+            return;
+        }
+        Map<String, Object> report = new TreeMap<>();
+        STATS.forEach((step, stats) -> {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("retries", stats.retries.get());
+            json.put("recovered", stats.recovered.get());
+            json.put("exhausted", stats.exhausted.get());
+            json.put("savedMs", TimeUnit.NANOSECONDS.toMillis(stats.savedNanos.get()));
+            report.put(step, json);
+            System.out.printf("[step-retry] %s retries=%d recovered=%d exhausted=%d savedMs=%d%n", step,
+                    stats.retries.get(), stats.recovered.get(), stats.exhausted.get(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.savedNanos.get()));
+        });
+        try {
+            Files.createDirectories(DIR);
+            Files.writeString(DIR.resolve("flaky-steps.json"), new Json().toJson(report), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class StepStats {
+        private final AtomicLong retries = new AtomicLong();
+        private final AtomicLong recovered = new AtomicLong();
+        private final AtomicLong exhausted = new AtomicLong();
+        private final AtomicLong savedNanos = new AtomicLong();
+    }
+}
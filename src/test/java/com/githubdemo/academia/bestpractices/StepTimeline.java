@@ -0,0 +1,171 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.json.Json;
+
+// Per-test timeline of navigations, WebDriver commands, waits and artifact captures
+// (-Dtimings=true). Each test writes target/timings/<test>.json (<test>-2.json, ... for repeated
+// invocations such as data-provider rows); suite end writes summary.json with p50/p90/p99 per
+// step kind so slow steps can be compared across runs.
+public final class StepTimeline {
+    private static final Path DIR = Paths.get(System.getProperty("timings.dir", "target/timings"));
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+    // Tracked even with timings off so CommandTrace can name the test on its own.
+    private static final ThreadLocal<String> TEST = new ThreadLocal<>();
+    private static final ThreadLocal<Long> TEST_START = new ThreadLocal<>();
+    private static final Map<String, List<Long>> DURATIONS = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> INVOCATIONS = new ConcurrentHashMap<>();
+    private static final Json JSON = new Json();
+
+    private StepTimeline() {
+    }
+
+    public static boolean enabled() {
+        return Boolean.getBoolean("timings");
+    }
+
+    public static void begin(String testName) {
+        TEST.set(testName);
+        TEST_START.set(System.nanoTime());
+        if (enabled()) {
+            CURRENT.set(new Recording(testName, INVOCATIONS.merge(testName, 1, Integer::sum)));
+        }
+    }
+
+    public static String currentTest() {
+        return TEST.get();
+    }
+
+    // Time spent in the current test so far; 0 outside a test.
+    public static long elapsedInTestNanos() {
+        Long start = TEST_START.get();
+        return start == null ? 0 : System.nanoTime() - start;
+    }
+
+    // kind groups steps in the summary (command, wait, navigation, capture); name is the step itself.
+    public static void record(String kind, String name, long startNanos, long endNanos, Map<String, Object> details) {
+        Recording recording = CURRENT.get();
+        if (recording == null) {
+            return;
+        }
+        long durationMicros = TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos);
+        Map<String, Object> step = new LinkedHashMap<>();
+        step.put("kind", kind);
+        step.put("name", name);
+        step.put("startMs", TimeUnit.NANOSECONDS.toMillis(startNanos - recording.startNanos));
+        step.put("durationMs", durationMicros / 1000.0);
+        step.put("thread", Thread.currentThread().getName());
+        if (details != null && !details.isEmpty()) {
+            step.put("details", details);
+        }
+        recording.steps.add(step);
+        DURATIONS.computeIfAbsent(kind + ":" + name, key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(durationMicros);
+    }
+
+    // One "navigation:load" step per driver.get() on the current test, spanning navigation start to
+    // loadEventEnd, with the Navigation Timing breakdown as details. Those values are already
+    // durations, so each also goes straight into the summary as navigation:<name>.
+    public static void recordNavigation(String url, Map<String, Double> millis, long transferBytes) {
+        Recording recording = CURRENT.get();
+        if (recording == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        double load = millis.getOrDefault("load", 0.0);
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("url", url);
+        millis.forEach((name, value) -> details.put(name + "Ms", value));
+        details.put("transferBytes", transferBytes);
+        record("navigation", "load", now - (long) (load * 1_000_000), now, details);
+        millis.forEach((name, value) -> {
+            if (!"load".equals(name)) {
+                DURATIONS.computeIfAbsent("navigation:" + name, key -> Collections.synchronizedList(new ArrayList<>()))
+                        .add((long) (value * 1000));
+            }
+        });
+    }
+
+    public static void end() {
+        Recording recording = CURRENT.get();
+        CURRENT.remove();
+        TEST.remove();
+        TEST_START.remove();
+        if (recording == null) {
+            return;
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("test", recording.testName);
+        json.put("invocation", recording.invocation);
+        json.put("totalMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - recording.startNanos));
+        json.put("steps", recording.steps);
+        // data-provider rows and retries share a test name: later invocations get a -<n> suffix
+        String file = recording.testName.replaceAll("[^A-Za-z0-9._-]", "_")
+                + (recording.invocation == 1 ? "" : "-" + recording.invocation);
+        write(DIR.resolve(file + ".json"), json);
+    }
+
+    // Aggregated percentiles over every test recorded in this JVM; call at suite end.
+    public static void writeSummary() {
+        if (DURATIONS.isEmpty()) {
+            return;
+        }
+        Map<String, Object> summary = new TreeMap<>();
+        for (Map.Entry<String, List<Long>> entry : DURATIONS.entrySet()) {
+            List<Long> sorted;
+            synchronized (entry.getValue()) {
+                sorted = new ArrayList<>(entry.getValue());
+            }
+            Collections.sort(sorted);
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", sorted.size());
+            stats.put("p50Ms", percentile(sorted, 50));
+            stats.put("p90Ms", percentile(sorted, 90));
+            stats.put("p99Ms", percentile(sorted, 99));
+            stats.put("maxMs", sorted.get(sorted.size() - 1) / 1000.0);
+            stats.put("totalMs", sorted.stream().mapToLong(Long::longValue).sum() / 1000.0);
+            summary.put(entry.getKey(), stats);
+        }
+        write(DIR.resolve("summary.json"), summary);
+        System.out.println("[timings] summary written to " + DIR.resolve("summary.json"));
+    }
+
+    private static double percentile(List<Long> sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1000.0;
+    }
+
+    private static void write(Path file, Object json) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, JSON.toJson(json), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class Recording {
+        private final String testName;
+        private final int invocation;
+        private final long startNanos = System.nanoTime();
+        private final List<Map<String, Object>> steps = new ArrayList<>();
+
+        private Recording(String testName, int invocation) {
+            this.testName = testName;
+            this.invocation = invocation;
+        }
+    }
+}
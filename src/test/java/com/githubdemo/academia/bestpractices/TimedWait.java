@@ -0,0 +1,261 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+// WebDriverWait that resolves as soon as its condition holds instead of on the next 500 ms poll,
+// and reports how long each until() took to StepTimeline.
+// Between checks an in-page MutationObserver (plus transitionend/animationend) blocks in one
+// executeAsyncScript until the DOM changes, capped by an adaptive timer (25 ms doubling up to
+// waits.maxPollMs) for changes no mutation announces, such as layout or scroll position. Browsers or
+// pages where the script cannot run fall back to the same adaptive polling with plain sleeps.
+// Overshoot - dead time from the wake-up that made the condition true to until() returning, plus for
+// event wakes the in-page delay between the mutation and the script resolving - is recorded per wait
+// and summarised as [waits] at JVM exit.
+// -Dwaits.mode=poll restores the stock WebDriverWait loop. withTimeout, pollingEvery (caps the
+// adaptive timer), ignoring/ignoreAll (NotFoundException by default) and withMessage behave as on
+// any FluentWait.
+public class TimedWait extends WebDriverWait {
+    private static final boolean EVENT_DRIVEN = !"poll".equalsIgnoreCase(System.getProperty("waits.mode", "event"));
+    private static final long MIN_POLL_MS = 25;
+    private static final long MAX_POLL_MS = Math.max(MIN_POLL_MS, Long.getLong("waits.maxPollMs", 250));
+    private static final Stats STATS = new Stats();
+
+    // Resolves with ms since the first mutation/transition of a burst, or -1 when the cap expired.
+    private static final String SCRIPT = String.join("\n",
+            "const capMs = arguments[0], done = arguments[arguments.length - 1];",
+            "let settled = false, observer, timer;",
+            "const wake = () => { const at = performance.now(); setTimeout(() => finish(performance.now() - at), 0); };",
+            "const finish = (latency) => {",
+            "  if (settled) return;",
+            "  settled = true;",
+            "  observer.disconnect();",
+            "  clearTimeout(timer);",
+            "  document.removeEventListener('transitionend', wake, true);",
+            "  document.removeEventListener('animationend', wake, true);",
+            "  done(latency);",
+            "};",
+            "observer = new MutationObserver(wake);",
+            "observer.observe(document, { subtree: true, childList: true, attributes: true, characterData: true });",
+            "document.addEventListener('transitionend', wake, true);",
+            "document.addEventListener('animationend', wake, true);",
+            "timer = setTimeout(() => finish(-1), capMs);");
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (STATS.waits.get() > 0) {
+                System.out.println(STATS);
+            }
+        }, "waits-report"));
+    }
+
+    private final WebDriver driver;
+    // FluentWait keeps these private; the overrides below mirror them. Assigned while the super
+    // constructor runs (it calls withTimeout/pollingEvery/ignoring), so no field initializers here.
+    private Duration timeout;
+    private Duration interval;
+    private List<Class<? extends Throwable>> ignored;
+    private Supplier<String> message;
+
+    public TimedWait(WebDriver driver, Duration timeout) {
+        super(driver, timeout);
+        this.driver = driver;
+    }
+
+    @Override
+    public FluentWait<WebDriver> withTimeout(Duration timeout) {
+        this.timeout = timeout;
+        return super.withTimeout(timeout);
+    }
+
+    @Override
+    public FluentWait<WebDriver> pollingEvery(Duration interval) {
+        this.interval = interval;
+        return super.pollingEvery(interval);
+    }
+
+    @Override
+    public <K extends Throwable> FluentWait<WebDriver> ignoreAll(Collection<Class<? extends K>> types) {
+        if (ignored == null) {
+            ignored = new ArrayList<>();
+        }
+        ignored.addAll(types);
+        return super.ignoreAll(types);
+    }
+
+    @Override
+    public FluentWait<WebDriver> withMessage(String message) {
+        this.message = () -> message;
+        return super.withMessage(message);
+    }
+
+    @Override
+    public FluentWait<WebDriver> withMessage(Supplier<String> messageSupplier) {
+        this.message = messageSupplier;
+        return super.withMessage(messageSupplier);
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        long start = System.nanoTime();
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("condition", String.valueOf(isTrue));
+        details.put("satisfied", false);
+        try {
+            if (!EVENT_DRIVEN) {
+                V result = super.until(isTrue);
+                details.put("satisfied", true);
+                return result;
+            }
+            Outcome<V> outcome = awaitEvents(isTrue, start);
+            details.put("satisfied", true);
+            details.put("wake", outcome.wake);
+            details.put("checks", outcome.rounds + 1);
+            details.put("overshootMs", TimeUnit.NANOSECONDS.toMillis(outcome.overshootNanos));
+            return outcome.value;
+        } finally {
+            StepTimeline.record("wait", "until", start, System.nanoTime(), details);
+        }
+    }
+
+    private <V> Outcome<V> awaitEvents(Function<? super WebDriver, V> isTrue, long start) {
+        long deadline = start + timeout.toNanos();
+        // an explicit pollingEvery shorter than waits.maxPollMs lowers the cap (the default 500 ms does not)
+        long maxPollMs = Math.max(MIN_POLL_MS, Math.min(MAX_POLL_MS, interval.toMillis()));
+        long pollMs = MIN_POLL_MS;
+        boolean scriptable = driver instanceof JavascriptExecutor;
+        int scriptFailures = 0;
+        String wake = "immediate";
+        long wokeAt = start;
+        long latencyNanos = 0;
+        RuntimeException lastIgnored = null;
+        for (int rounds = 0; ; rounds++) {
+            try {
+                V value = isTrue.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    long overshoot = "immediate".equals(wake) ? 0 : System.nanoTime() - wokeAt + latencyNanos;
+                    STATS.add(wake, overshoot);
+                    return new Outcome<>(value, wake, rounds, overshoot);
+                }
+            } catch (RuntimeException e) {
+                if (!isIgnored(e)) {
+                    throw e;
+                }
+                lastIgnored = e;
+            }
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                STATS.timeouts.incrementAndGet();
+                String waitingFor = message == null || message.get() == null ? "waiting for " + isTrue : message.get();
+                throw timeoutException(String.format("Expected condition failed: %s (tried for %d ms, %d checks)",
+                        waitingFor, timeout.toMillis(), rounds + 1), lastIgnored);
+            }
+            long capMs = Math.min(pollMs, remainingMs);
+            latencyNanos = 0;
+            Long latencyMs = scriptable && scriptFailures < 3 ? awaitMutation(capMs) : null;
+            if (latencyMs == null) {
+                if (scriptable) {
+                    scriptFailures++;
+                }
+                if (scriptFailures >= 3 || !scriptable) {
+                    sleep(capMs);
+                    wake = "poll";
+                } else {
+                    // most often the document went away under the observer (navigation): re-check now
+                    wake = "navigation";
+                }
+                pollMs = Math.min(pollMs * 2, maxPollMs);
+            } else if (latencyMs >= 0) {
+                scriptFailures = 0;
+                wake = "event";
+                latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMs);
+                // page is changing: keep the cap short for the next quiet stretch
+                pollMs = MIN_POLL_MS;
+            } else {
+                scriptFailures = 0;
+                wake = "timer";
+                pollMs = Math.min(pollMs * 2, maxPollMs);
+            }
+            // the wake-up is when the script (or sleep) returned, not when it started
+            wokeAt = System.nanoTime();
+        }
+    }
+
+    // ms from the DOM change to the script resolving, -1 if capMs passed quietly, null if it could not run.
+    private Long awaitMutation(long capMs) {
+        try {
+            Object latency = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT, capMs);
+            return latency instanceof Number n ? Long.valueOf(n.longValue()) : Long.valueOf(-1);
+        } catch (ScriptTimeoutException e) {
+            // the session's script timeout is shorter than the cap
+            return -1L;
+        } catch (WebDriverException e) {
+            // navigation detached the document, an alert is open, or the driver has no async scripts
+            return null;
+        }
+    }
+
+    private boolean isIgnored(RuntimeException e) {
+        return ignored != null && ignored.stream().anyMatch(type -> type.isInstance(e));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException(e);
+        }
+    }
+
+    private record Outcome<V>(V value, String wake, int rounds, long overshootNanos) {
+    }
+
+    // JVM-wide: how each successful wait was woken and how much dead time followed the wake-up.
+    private static final class Stats {
+        private final AtomicLong waits = new AtomicLong();
+        private final AtomicLong immediate = new AtomicLong();
+        private final AtomicLong events = new AtomicLong();
+        private final AtomicLong others = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final AtomicLong overshootNanos = new AtomicLong();
+        private final AtomicLong maxOvershootNanos = new AtomicLong();
+
+        private void add(String wake, long overshoot) {
+            waits.incrementAndGet();
+            switch (wake) {
+                case "immediate" -> immediate.incrementAndGet();
+                case "event" -> events.incrementAndGet();
+                default -> others.incrementAndGet();
+            }
+            overshootNanos.addAndGet(overshoot);
+            maxOvershootNanos.accumulateAndGet(overshoot, Math::max);
+        }
+
+        @Override
+        public String toString() {
+            long n = waits.get();
+            long woken = n - immediate.get();
+            return String.format(
+                    "[waits] satisfied=%d immediate=%d eventWakes=%d otherWakes=%d timeouts=%d avgOvershootMs=%.1f maxOvershootMs=%d",
+                    n, immediate.get(), events.get(), others.get(), timeouts.get(),
+                    woken == 0 ? 0 : overshootNanos.get() / 1_000_000.0 / woken,
+                    TimeUnit.NANOSECONDS.toMillis(maxOvershootNanos.get()));
+        }
+    }
+}
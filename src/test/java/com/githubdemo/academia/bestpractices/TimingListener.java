@@ -0,0 +1,79 @@
+package com.githubdemo.academia.bestpractices;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+// Feeds StepTimeline with the duration of every WebDriver/WebElement command and the
+// Navigation Timing breakdown (server response, DOM load, full load, transfer size) after each driver.get().
+public class TimingListener implements WebDriverListener {
+    // Accessors that only return another decorated object; they never reach the browser.
+    static final Set<String> LOCAL_CALLS = Set.of("manage", "navigate", "switchTo", "timeouts", "window",
+            "getWrappedDriver", "getWrappedElement", "toString", "hashCode", "equals");
+    private static final String NAVIGATION_TIMING =
+            "const n = performance.getEntriesByType('navigation')[0];"
+                    + "return n ? [n.responseStart - n.requestStart, n.domContentLoadedEventEnd, n.loadEventEnd, n.transferSize] : null;";
+
+    private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!LOCAL_CALLS.contains(method.getName())) {
+            starts.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method, args, null);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method, args, e.getTargetException());
+    }
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        try {
+            Object timing = ((JavascriptExecutor) driver).executeScript(NAVIGATION_TIMING);
+            if (timing instanceof List<?> values && values.size() == 4) {
+                Map<String, Double> millis = new LinkedHashMap<>();
+                millis.put("serverResponse", ((Number) values.get(0)).doubleValue());
+                millis.put("domContentLoaded", ((Number) values.get(1)).doubleValue());
+                millis.put("load", ((Number) values.get(2)).doubleValue());
+                StepTimeline.recordNavigation(url, millis, ((Number) values.get(3)).longValue());
+            }
+        } catch (WebDriverException ignored) {
+            // timing is best effort; never fail a navigation because of it
+        }
+    }
+
+    private void finish(Method method, Object[] args, Throwable error) {
+        if (LOCAL_CALLS.contains(method.getName())) {
+            return;
+        }
+        Deque<Long> stack = starts.get();
+        if (stack.isEmpty()) {
+            return;
+        }
+        long start = stack.pop();
+        Map<String, Object> details = null;
+        if ("get".equals(method.getName()) && args != null && args.length == 1) {
+            details = Map.of("url", String.valueOf(args[0]));
+        } else if (error != null) {
+            details = Map.of("error", error.getClass().getSimpleName());
+        }
+        StepTimeline.record("command", method.getName(), start, System.nanoTime(), details);
+    }
+}
@@ -0,0 +1,132 @@
+package com.githubdemo.academia.data;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.testng.annotations.DataProvider;
+
+// TestNG data providers over tests/data/*.csv. CSV is lazy: rows are parsed only when TestNG asks for
+// the next invocation, so generated datasets never need to fit in memory, and a method's rows run in
+// sequence. CSV_PARALLEL spreads the rows over the suite's data-provider-thread-count workers; TestNG
+// 7.8 reads a parallel provider's whole iterator before the first invocation, so it holds every row
+// of the method (a few small records for tests/data) while the file is still read line by line.
+// forEach does the same for bulk runs outside TestNG, holding at most two pending rows per thread.
+//
+//   @CsvSource(file = "numeprenume.csv", group = "nume_valid")
+//   @Test(dataProvider = CsvDataProviders.CSV_PARALLEL, dataProviderClass = CsvDataProviders.class)
+//   public void acceptsValidName(TestDataRow row) { ... }
+public final class CsvDataProviders {
+    public static final String CSV = "csv";
+    public static final String CSV_PARALLEL = "csv-parallel";
+
+    private CsvDataProviders() {
+    }
+
+    @DataProvider(name = CSV)
+    public static Iterator<Object[]> csv(Method method) {
+        CsvSource source = method.getAnnotation(CsvSource.class);
+        if (source == null) {
+            throw new IllegalStateException(method.getName() + " uses the csv data provider without @CsvSource");
+        }
+        return rows(resolve(source.file()), source.group());
+    }
+
+    @DataProvider(name = CSV_PARALLEL, parallel = true)
+    public static Iterator<Object[]> csvParallel(Method method) {
+        return csv(method);
+    }
+
+    public static Iterator<Object[]> rows(Path file, String group) {
+        CsvRowIterator csv = new CsvRowIterator(file);
+        return new Iterator<>() {
+            private TestDataRow next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && csv.hasNext()) {
+                    TestDataRow row = TestDataRow.from(csv.next());
+                    if (group.isEmpty() || group.equals(row.group())) {
+                        next = row;
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                TestDataRow row = next;
+                next = null;
+                return new Object[] { row };
+            }
+        };
+    }
+
+    // Runs action on every row with `threads` workers; reading pauses while 2 * threads rows are
+    // pending. Every row runs even if some fail; failures are rethrown together at the end.
+    public static void forEach(Path file, String group, int threads, Consumer<TestDataRow> action) {
+        Semaphore window = new Semaphore(2 * Math.max(1, threads));
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, threads));
+        try (CsvRowIterator csv = new CsvRowIterator(file)) {
+            while (csv.hasNext()) {
+                TestDataRow row = TestDataRow.from(csv.next());
+                if (!group.isEmpty() && !group.equals(row.group())) {
+                    continue;
+                }
+                window.acquireUninterruptibly();
+                workers.execute(() -> {
+                    try {
+                        action.accept(row);
+                    } catch (RuntimeException | AssertionError e) {
+                        failures.add(new AssertionError(row + ": " + e.getMessage(), e));
+                    } finally {
+                        window.release();
+                    }
+                });
+            }
+        } finally {
+            workers.shutdown();
+            try {
+                workers.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+            } catch (InterruptedException e) {
+                workers.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!failures.isEmpty()) {
+            AssertionError failed = new AssertionError(failures.size() + " row(s) of " + file + " failed; first: "
+                    + failures.peek().getMessage(), failures.peek());
+            failures.stream().skip(1).forEach(failed::addSuppressed);
+            throw failed;
+        }
+    }
+
+    // Accepts "numeprenume.csv", "data/numeprenume.csv", "tests/data/numeprenume.csv" or an absolute path.
+    public static Path resolve(String file) {
+        Path direct = Paths.get(file);
+        if (Files.isRegularFile(direct)) {
+            return direct;
+        }
+        String normalized = file.replaceFirst("^[\\\\/]*tests[\\\\/]+", "").replaceFirst("^data[\\\\/]+", "");
+        Path fromData = Paths.get("tests", "data", normalized);
+        if (Files.isRegularFile(fromData)) {
+            return fromData;
+        }
+        throw new IllegalArgumentException("CSV file not found: '" + file + "'. Tried: "
+                + direct.toAbsolutePath() + ", " + fromData.toAbsolutePath());
+    }
+}
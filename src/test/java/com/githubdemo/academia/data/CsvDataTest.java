@@ -0,0 +1,114 @@
+package com.githubdemo.academia.data;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+// CsvRowIterator/TestDataRow must read tests/data exactly like readCsv.ts + normalizeRow, or the Java
+// and Playwright suites would be checking different values.
+public class CsvDataTest {
+    @Test
+    public void quotedCommasStayInTheField() {
+        Assert.assertEquals(CsvRowIterator.parseLine("valid,\"Ion, Popescu\",x"), List.of("valid", "Ion, Popescu", "x"));
+    }
+
+    @Test
+    public void doubledQuotesEscapeAQuote() {
+        Assert.assertEquals(CsvRowIterator.parseLine("invalid,quote,\"O\"\"Brien\""), List.of("invalid", "quote", "O\"Brien"));
+    }
+
+    @Test
+    public void fieldWhitespaceIsPreserved() {
+        Assert.assertEquals(CsvRowIterator.parseLine("nume_invalid,space, "), List.of("nume_invalid", "space", " "));
+        Assert.assertEquals(CsvRowIterator.parseLine("nume_invalid,empty,"), List.of("nume_invalid", "empty", ""));
+    }
+
+    @Test
+    public void blankAndCommentLinesAreSkipped() throws IOException {
+        Path file = Files.createTempFile("csv-data", ".csv");
+        try {
+            Files.write(file, List.of("# header", "", "   ", "  # indented comment", "valid,Ion", "invalid,empty,"),
+                    StandardCharsets.UTF_8);
+            List<List<String>> rows = new ArrayList<>();
+            try (CsvRowIterator csv = new CsvRowIterator(file)) {
+                csv.forEachRemaining(rows::add);
+            }
+            Assert.assertEquals(rows, List.of(List.of("valid", "Ion"), List.of("invalid", "empty", "")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void spaceAndEmptyRowsKeepTheirValues() {
+        TestDataRow space = TestDataRow.from(List.of("nume_invalid", "space", " "));
+        TestDataRow empty = TestDataRow.from(List.of("nume_invalid", "empty", ""));
+        Assert.assertEquals(space.value(), " ");
+        Assert.assertEquals(empty.value(), "");
+        Assert.assertEquals(empty.label(), "empty");
+    }
+
+    @Test
+    public void twoColumnRowsUseTheSecondAsLabelAndValue() {
+        Assert.assertEquals(TestDataRow.from(List.of(" valid ", " Ion")), new TestDataRow("valid", "Ion", " Ion"));
+    }
+
+    @Test
+    public void placeholdersExpand() {
+        Assert.assertEquals(TestDataRow.from(List.of("invalid", "too long", "${A5}x")).value(), "AAAAAx");
+    }
+
+    @Test
+    public void numePrenumeFileReadsAsTheSpecDoes() {
+        Iterator<Object[]> rows = CsvDataProviders.rows(Paths.get("tests", "data", "numeprenume.csv"), "nume_invalid");
+        List<String> values = new ArrayList<>();
+        rows.forEachRemaining(row -> values.add(((TestDataRow) row[0]).value()));
+        Assert.assertTrue(values.contains(" "), values.toString());
+        Assert.assertTrue(values.contains(""), values.toString());
+    }
+
+    @Test
+    public void forEachBoundsWorkersAndReportsEveryFailure() throws IOException {
+        Path file = Files.createTempFile("csv-data", ".csv");
+        try {
+            List<String> lines = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                lines.add((i % 5 == 0 ? "bad" : "ok") + "," + i);
+            }
+            Files.write(file, lines, StandardCharsets.UTF_8);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+            Queue<String> seen = new ConcurrentLinkedQueue<>();
+            AssertionError failed = Assert.expectThrows(AssertionError.class, () ->
+                    CsvDataProviders.forEach(file, "", 3, row -> {
+                        peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(5);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        seen.add(row.value());
+                        running.decrementAndGet();
+                        if ("bad".equals(row.group())) {
+                            throw new IllegalStateException("row " + row.value());
+                        }
+                    }));
+            Assert.assertEquals(seen.size(), 20);
+            Assert.assertTrue(peak.get() <= 3, "peak " + peak.get());
+            Assert.assertEquals(failed.getSuppressed().length, 3);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
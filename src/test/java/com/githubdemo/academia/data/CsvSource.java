@@ -0,0 +1,16 @@
+package com.githubdemo.academia.data;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Binds a test method to a tests/data CSV for CsvDataProviders.CSV.
+// group selects rows by their first column (e.g. "nume_valid"); empty means every row.
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CsvSource {
+    String file();
+
+    String group() default "";
+}
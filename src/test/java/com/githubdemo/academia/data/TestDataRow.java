@@ -0,0 +1,46 @@
+package com.githubdemo.academia.data;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Same normalization as tests/helpers/testDataLoader.ts: rows are group,label,value or group,value.
+public record TestDataRow(String group, String label, String value) {
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{A(\\d+)}");
+
+    public static TestDataRow from(List<String> row) {
+        String group = row.isEmpty() ? "" : row.get(0);
+        String label;
+        String value;
+        if (row.size() == 1) {
+            label = row.get(0);
+            value = row.get(0);
+        } else if (row.size() == 2) {
+            label = row.get(1);
+            value = row.get(1);
+        } else {
+            label = row.get(1);
+            value = row.get(2);
+        }
+        // value is kept exactly as written, so "space" and "empty" rows reach the field as " " and "";
+        // only group/label are trimmed, and a blank label shows the value instead
+        String trimmedLabel = label.trim();
+        return new TestDataRow(group.trim(), trimmedLabel.isEmpty() ? value : trimmedLabel, expandPlaceholders(value));
+    }
+
+    // ${A256} -> 256 'A' characters, used for max-length cases.
+    static String expandPlaceholders(String value) {
+        Matcher matcher = PLACEHOLDER.matcher(value);
+        StringBuilder out = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(out, "A".repeat(Integer.parseInt(matcher.group(1))));
+        }
+        matcher.appendTail(out);
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return group + ":" + label;
+    }
+}
@@ -0,0 +1,245 @@
+package com.githubdemo.academia.fixtures;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.json.Json;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// Embedded HTTP server standing in for one upstream origin (e.g. https://academiatestarii.ro).
+// RECORD proxies every request upstream and snapshots the raw response to disk; REPLAY serves the
+// snapshots only, so runs are offline and reproducible. Absolute upstream URLs in text responses
+// are rewritten to this server at serve time ("/__ext/<host>/..." for third-party hosts), which
+// keeps snapshots byte-for-byte faithful and lets replay run on any port.
+public final class FixtureServer implements AutoCloseable {
+    public enum Mode { RECORD, REPLAY }
+
+    private static final String EXTERNAL_PREFIX = "/__ext/";
+    private static final Pattern ABSOLUTE_URL = Pattern.compile("https?:(\\\\?/)(\\\\?/)([A-Za-z0-9-]+(?:\\.[A-Za-z0-9-]+)*\\.[A-Za-z]{2,})");
+    private static final Set<String> FORWARDED_REQUEST_HEADERS = Set.of("accept", "accept-language", "content-type",
+            "cookie", "user-agent", "x-requested-with");
+    private static final Set<String> FORWARDED_RESPONSE_HEADERS = Set.of("content-type", "location", "set-cookie",
+            "cache-control");
+    private static final Json JSON = new Json();
+
+    private final URI origin;
+    private final Mode mode;
+    private final Path storage;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(15))
+            .build();
+
+    public FixtureServer(String origin, Mode mode, Path recordingsDir) {
+        this.origin = URI.create(origin);
+        this.mode = mode;
+        this.storage = recordingsDir.resolve(this.origin.getHost());
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            try {
+                respond(exchange);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                exchange.sendResponseHeaders(503, -1);
+            } catch (IOException | RuntimeException e) {
+                // HttpServer drops the connection silently on handler errors; surface them instead
+                System.err.println("[fixtures] " + exchange.getRequestMethod() + " " + exchange.getRequestURI()
+                        + " failed: " + e);
+                exchange.sendResponseHeaders(502, -1);
+            }
+        }
+    }
+
+    private void respond(HttpExchange exchange) throws IOException, InterruptedException {
+        URI upstream = upstreamUri(exchange.getRequestURI());
+        String key = key(exchange.getRequestMethod(), upstream);
+        Snapshot snapshot = mode == Mode.RECORD ? record(exchange, upstream, key) : load(key);
+        if (snapshot == null) {
+            byte[] message = ("Not recorded: " + exchange.getRequestMethod() + " " + upstream).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(404, message.length);
+            exchange.getResponseBody().write(message);
+            return;
+        }
+        serve(exchange, snapshot);
+    }
+
+    private Snapshot record(HttpExchange exchange, URI upstream, String key) throws IOException, InterruptedException {
+        byte[] requestBody;
+        try (InputStream in = exchange.getRequestBody()) {
+            requestBody = in.readAllBytes();
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(upstream)
+                .timeout(Duration.ofSeconds(30))
+                .method(exchange.getRequestMethod(), requestBody.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(unrewrite(requestBody)));
+        exchange.getRequestHeaders().forEach((name, values) -> {
+            if (FORWARDED_REQUEST_HEADERS.contains(name.toLowerCase())) {
+                values.forEach(value -> request.header(name, value));
+            }
+        });
+        // some WordPress endpoints (admin-ajax, login) check where the request came from
+        request.header("Referer", origin + "/");
+        request.header("Origin", origin.getScheme() + "://" + origin.getAuthority());
+
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        response.headers().map().forEach((name, values) -> {
+            if (FORWARDED_RESPONSE_HEADERS.contains(name.toLowerCase())) {
+                headers.put(name.toLowerCase(), values);
+            }
+        });
+        Snapshot snapshot = new Snapshot(response.statusCode(), headers, response.body());
+        save(key, upstream, snapshot);
+        return snapshot;
+    }
+
+    private void serve(HttpExchange exchange, Snapshot snapshot) throws IOException {
+        String contentType = String.join(";", snapshot.headers.getOrDefault("content-type", List.of("")));
+        byte[] body = isText(contentType) ? rewrite(new String(snapshot.body, StandardCharsets.UTF_8))
+                .getBytes(StandardCharsets.UTF_8) : snapshot.body;
+        snapshot.headers.forEach((name, values) -> {
+            for (String value : values) {
+                if ("location".equals(name)) {
+                    value = rewrite(value);
+                } else if ("set-cookie".equals(name)) {
+                    // the browser talks plain http to 127.0.0.1: drop Domain/Secure so cookies stick
+                    value = value.replaceAll("(?i);\\s*domain=[^;]*", "")
+                            .replaceAll("(?i);\\s*secure", "")
+                            .replaceAll("(?i);\\s*samesite=none", "; SameSite=Lax");
+                }
+                exchange.getResponseHeaders().add(name, value);
+            }
+        });
+        boolean noBody = snapshot.status == 204 || snapshot.status == 304 || "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(snapshot.status, noBody ? -1 : body.length);
+        if (!noBody) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private URI upstreamUri(URI local) {
+        String pathAndQuery = local.getRawPath() + (local.getRawQuery() == null ? "" : "?" + local.getRawQuery());
+        if (pathAndQuery.startsWith(EXTERNAL_PREFIX)) {
+            return URI.create("https://" + pathAndQuery.substring(EXTERNAL_PREFIX.length()));
+        }
+        return URI.create(origin.getScheme() + "://" + origin.getAuthority() + pathAndQuery);
+    }
+
+    // https://academiatestarii.ro/x -> http://127.0.0.1:<port>/x, https://cdn.host/y -> .../__ext/cdn.host/y,
+    // including the JSON-escaped https:\/\/ form WordPress inlines into pages.
+    String rewrite(String text) {
+        Matcher matcher = ABSOLUTE_URL.matcher(text);
+        StringBuilder out = new StringBuilder();
+        while (matcher.find()) {
+            boolean escaped = !matcher.group(1).equals("/");
+            String host = matcher.group(3);
+            String local = host.equalsIgnoreCase(origin.getHost()) || host.equalsIgnoreCase("www." + origin.getHost())
+                    ? baseUrl()
+                    : baseUrl() + EXTERNAL_PREFIX + host;
+            matcher.appendReplacement(out, Matcher.quoteReplacement(escaped ? local.replace("/", "\\/") : local));
+        }
+        matcher.appendTail(out);
+        return out.toString();
+    }
+
+    // Form posts carry our local URLs (e.g. referer fields); send the upstream ones instead.
+    private byte[] unrewrite(byte[] body) {
+        String text = new String(body, StandardCharsets.UTF_8);
+        String local = baseUrl();
+        String upstream = origin.getScheme() + "://" + origin.getAuthority();
+        return text.replace(local, upstream)
+                .replace(java.net.URLEncoder.encode(local, StandardCharsets.UTF_8),
+                        java.net.URLEncoder.encode(upstream, StandardCharsets.UTF_8))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isText(String contentType) {
+        String type = contentType.toLowerCase();
+        return type.startsWith("text/") || type.contains("javascript") || type.contains("json") || type.contains("xml");
+    }
+
+    private void save(String key, URI upstream, Snapshot snapshot) throws IOException {
+        Files.createDirectories(storage);
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("url", upstream.toString());
+        meta.put("status", snapshot.status);
+        meta.put("headers", snapshot.headers);
+        Files.write(storage.resolve(key + ".body"), snapshot.body);
+        Files.writeString(storage.resolve(key + ".json"), JSON.toJson(meta), StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Snapshot load(String key) throws IOException {
+        Path meta = storage.resolve(key + ".json");
+        if (!Files.isRegularFile(meta)) {
+            return null;
+        }
+        Map<String, Object> json = JSON.toType(Files.readString(meta, StandardCharsets.UTF_8), Json.MAP_TYPE);
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        ((Map<String, Object>) json.get("headers")).forEach((name, values) -> headers.put(name, (List<String>) values));
+        return new Snapshot(((Number) json.get("status")).intValue(), headers,
+                Files.readAllBytes(storage.resolve(key + ".body")));
+    }
+
+    // Method + upstream URL; request bodies are ignored because nonces differ on every run.
+    private static String key(String method, URI upstream) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((method + " " + upstream).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Snapshot(int status, Map<String, List<String>> headers, byte[] body) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.githubdemo.academia.fixtures;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Single source of the base URLs tests navigate to. -Dfixtures.mode=record|replay routes each
+// origin through a local FixtureServer; the default (live) returns the real origin unchanged.
+public final class TargetSites {
+    public static final String ACADEMIA = "https://academiatestarii.ro";
+    public static final String ACADEMIA_VER3 = "https://ver3.academiatestarii.ro";
+    public static final String PLAYWRIGHT = "https://playwright.dev";
+
+    private static final Path RECORDINGS = Paths.get(System.getProperty("fixtures.dir", "fixtures/recordings"));
+    private static final Map<String, FixtureServer> SERVERS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(
+                () -> SERVERS.values().forEach(FixtureServer::close), "fixture-server-shutdown"));
+    }
+
+    private TargetSites() {
+    }
+
+    public static String academia() {
+        return baseUrl(ACADEMIA);
+    }
+
+    // Staging copy hosting the registration form (index.php/formular/) the field-validation data targets.
+    public static String academiaVer3() {
+        return baseUrl(ACADEMIA_VER3);
+    }
+
+    public static String playwright() {
+        return baseUrl(PLAYWRIGHT);
+    }
+
+    public static String baseUrl(String origin) {
+        String mode = System.getProperty("fixtures.mode", "live").toUpperCase();
+        if ("LIVE".equals(mode)) {
+            return origin;
+        }
+        FixtureServer.Mode serverMode = FixtureServer.Mode.valueOf(mode);
+        return SERVERS.computeIfAbsent(origin, key -> new FixtureServer(key, serverMode, RECORDINGS)).baseUrl();
+    }
+}
@@ -0,0 +1,195 @@
+package com.githubdemo.academia.forms;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+// An Elementor Pro form driven over plain HTTP, the way its frontend script submits it: the page is
+// fetched once for its hidden inputs (post_id, form_id, queried_id, any *nonce*), the admin-ajax URL
+// and the session cookies, then every submission POSTs action=elementor_pro_forms_send_form with
+// form_fields[<id>] values and reads the JSON verdict. One HttpClient (connection pool, virtual
+// threads) is shared by all submissions; a rejected nonce or expired session re-reads the page once.
+public final class ElementorForm {
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(15))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final Pattern FORM = Pattern.compile("<form[^>]*class=\"[^\"]*elementor-form[^\"]*\"[^>]*>(.*?)</form>",
+            Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+    private static final Pattern INPUT = Pattern.compile("<(?:input|textarea|select)\\b[^>]*>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ATTRIBUTE = Pattern.compile("([a-zA-Z_:-]+)(?:=\"([^\"]*)\")?");
+    private static final Pattern FIELD = Pattern.compile("form_fields\\[([^\\]]+)]");
+    private static final Pattern AJAX_URL = Pattern.compile("\"ajaxurl\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Json JSON = new Json();
+
+    private final URI page;
+    private volatile Session session;
+
+    public ElementorForm(String pageUrl) {
+        this.page = URI.create(pageUrl);
+    }
+
+    // Server verdict for one submission; errors maps form field ids to their messages.
+    public record Result(int status, boolean success, String message, Map<String, String> errors, long millis) {
+        public boolean rejects(String field) {
+            return !success && errors.containsKey(field);
+        }
+    }
+
+    // What the page declares: hidden inputs and the ids of its form_fields[...] inputs.
+    record Session(URI endpoint, Map<String, String> hidden, Set<String> fields, String cookies) {
+    }
+
+    public Set<String> fields() throws IOException, InterruptedException {
+        return session().fields();
+    }
+
+    public Result submit(Map<String, String> values) throws IOException, InterruptedException {
+        Session current = session();
+        Result result = post(current, values);
+        if (stale(result)) {
+            // nonce or session cookie expired while the batch ran: re-read the page and retry once
+            synchronized (this) {
+                if (session == current) {
+                    session = null;
+                }
+            }
+            result = post(session(), values);
+        }
+        return result;
+    }
+
+    private Session session() throws IOException, InterruptedException {
+        Session current = session;
+        if (current == null) {
+            synchronized (this) {
+                if (session == null) {
+                    session = load();
+                }
+                current = session;
+            }
+        }
+        return current;
+    }
+
+    private Session load() throws IOException, InterruptedException {
+        HttpResponse<String> response = CLIENT.send(HttpRequest.newBuilder(page).timeout(TIMEOUT).GET().build(),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + page + " returned " + response.statusCode());
+        }
+        Matcher form = FORM.matcher(response.body());
+        if (!form.find()) {
+            throw new IOException("No Elementor form on " + page);
+        }
+        Map<String, String> hidden = new LinkedHashMap<>();
+        Set<String> fields = new LinkedHashSet<>();
+        Matcher input = INPUT.matcher(form.group(1));
+        while (input.find()) {
+            Map<String, String> attributes = attributes(input.group());
+            String name = attributes.getOrDefault("name", "");
+            Matcher field = FIELD.matcher(name);
+            if (field.matches()) {
+                fields.add(field.group(1));
+            } else if ("hidden".equalsIgnoreCase(attributes.get("type")) && !name.isEmpty()) {
+                hidden.put(name, attributes.getOrDefault("value", ""));
+            }
+        }
+        Matcher ajax = AJAX_URL.matcher(response.body());
+        URI endpoint = ajax.find()
+                ? page.resolve(ajax.group(1).replace("\\/", "/"))
+                : page.resolve("/wp-admin/admin-ajax.php");
+        String cookies = response.headers().allValues("set-cookie").stream()
+                .map(cookie -> cookie.split(";", 2)[0])
+                .collect(Collectors.joining("; "));
+        return new Session(endpoint, hidden, fields, cookies);
+    }
+
+    private Result post(Session current, Map<String, String> values) throws IOException, InterruptedException {
+        Map<String, String> body = new LinkedHashMap<>(current.hidden());
+        body.put("action", "elementor_pro_forms_send_form");
+        body.put("referrer", page.toString());
+        values.forEach((field, value) -> body.put("form_fields[" + field + "]", value));
+        HttpRequest.Builder request = HttpRequest.newBuilder(current.endpoint())
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+                .header("X-Requested-With", "XMLHttpRequest")
+                .header("Referer", page.toString())
+                .POST(HttpRequest.BodyPublishers.ofString(encode(body)));
+        if (!current.cookies().isEmpty()) {
+            request.header("Cookie", current.cookies());
+        }
+        long start = System.nanoTime();
+        HttpResponse<String> response = CLIENT.send(request.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        return parse(response.statusCode(), response.body(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // {"success":false,"data":{"message":"...","errors":{"name":"This field is required."}}}
+    static Result parse(int status, String body, long millis) {
+        Map<String, Object> json;
+        try {
+            json = JSON.toType(body, Json.MAP_TYPE);
+        } catch (JsonException | ClassCastException e) {
+            // admin-ajax answers "0"/"-1" (unknown action, failed nonce) or an HTML error page
+            return new Result(status, false, body.strip().lines().findFirst().orElse(""), Map.of(), millis);
+        }
+        if (json == null) {
+            return new Result(status, false, "", Map.of(), millis);
+        }
+        Map<String, String> errors = new LinkedHashMap<>();
+        String message = "";
+        if (json.get("data") instanceof Map<?, ?> data) {
+            message = String.valueOf(data.get("message") == null ? "" : data.get("message"));
+            if (data.get("errors") instanceof Map<?, ?> fieldErrors) {
+                fieldErrors.forEach((field, error) -> errors.put(String.valueOf(field), String.valueOf(error)));
+            }
+        }
+        return new Result(status, Boolean.TRUE.equals(json.get("success")), message, errors, millis);
+    }
+
+    private static boolean stale(Result result) {
+        return result.status() == 403 || !result.success() && result.errors().isEmpty()
+                && ("0".equals(result.message()) || "-1".equals(result.message()));
+    }
+
+    private static Map<String, String> attributes(String tag) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        Matcher attribute = ATTRIBUTE.matcher(tag.replaceFirst("^<\\w+", ""));
+        while (attribute.find()) {
+            attributes.put(attribute.group(1).toLowerCase(), attribute.group(2) == null ? "" : unescape(attribute.group(2)));
+        }
+        return attributes;
+    }
+
+    private static String unescape(String value) {
+        return value.replace("&quot;", "\"").replace("&#039;", "'").replace("&lt;", "<").replace("&gt;", ">")
+                .replace("&amp;", "&");
+    }
+
+    private static String encode(Map<String, String> body) {
+        List<String> pairs = new ArrayList<>();
+        body.forEach((name, value) -> pairs.add(URLEncoder.encode(name, StandardCharsets.UTF_8) + "="
+                + URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return String.join("&", pairs);
+    }
+}
@@ -0,0 +1,211 @@
+package com.githubdemo.academia.forms;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.json.Json;
+
+import com.githubdemo.academia.data.CsvDataProviders;
+import com.githubdemo.academia.data.TestDataRow;
+import com.githubdemo.academia.fixtures.TargetSites;
+
+// Browserless fast path for contact-form validation data: every "<field id>_valid|_invalid" row of
+// forms.data (tests/data/contact.csv) is submitted straight to the academia contact form endpoint
+// (ElementorForm), with the other fields holding valid synthetic values, and judged on the server's
+// JSON answer:
+//   - _valid rows pass when the submission is accepted;
+//   - _invalid rows pass when the server rejects that field;
+//   - _invalid rows the server accepts are "browser-only": the rule lives in the rendered page
+//     (pattern attribute, script), so those cases stay on the UI path. They are written to
+//     target/forms/browser-only.csv, which Contact.browserOnly runs in the browser.
+// Group prefixes are the form's own field ids; rows naming a field the contact form does not declare
+// are skipped. That covers the ver3 registration-form datasets (numeprenume, profesie-telefon, ...):
+// that form validates in the page (red outline after the Trimite script) and only submits as a
+// logged-in registration with payment, so there is no per-field server answer to check and
+// FieldValidation keeps them in the browser.
+// Rows stream through CsvDataProviders.forEach, forms.concurrency at a time over one pooled
+// HttpClient, and finish in seconds. Prints [forms] per-row failures and writes target/forms/report.json; exits non-zero when a row fails.
+// Targets the local FixtureServer replay by default, so nothing reaches the real inbox. Replay keys
+// recordings on method + URL, so every row gets the same recorded answer: the default run is a dry
+// run of the request plumbing with no verdicts and no speed-up to speak of. The real path is live,
+// which sends one contact message per row and needs -Dforms.allowLive=true.
+//
+//   ./mvnw -Pforms test-compile exec:exec -Dforms.jvmArgs="-Dfixtures.mode=live -Dforms.allowLive=true"
+public final class FormValidationRunner {
+    private static final List<String> DATA = list(setting("forms.data", "contact.csv"));
+    private static final int CONCURRENCY = Math.max(1, Integer.parseInt(setting("forms.concurrency", "16")));
+    private static final Path DIR = Paths.get(setting("forms.dir", "target/forms"));
+    public static final Path BROWSER_ONLY = DIR.resolve("browser-only.csv");
+    // valid for every field: only the field under test changes per row
+    private static final Map<String, String> BASELINE = Map.of(
+            "name", "Formular", "field_d4138de", "Validare", "field_55ad473", "0700000000",
+            "email", "form-validation@example.invalid", "message", "Validare automata");
+
+    private FormValidationRunner() {
+    }
+
+    record Case(String file, TestDataRow row, String field, boolean expectValid) {
+        String id() {
+            return file + ":" + row;
+        }
+    }
+
+    record Verdict(Case test, String outcome, ElementorForm.Result result, String error) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (setting("fixtures.mode", "").isEmpty()) {
+            System.setProperty("fixtures.mode", "replay");
+        }
+        String mode = System.getProperty("fixtures.mode");
+        boolean replay = "replay".equalsIgnoreCase(mode);
+        // record proxies every POST to the real site as well
+        if (!replay && !Boolean.getBoolean("forms.allowLive")) {
+            throw new IllegalStateException("Refusing to submit the live contact form once per row; use "
+                    + "-Dfixtures.mode=replay or set -Dforms.allowLive=true");
+        }
+        if (replay) {
+            System.out.println("[forms] replay dry run: every row gets the one recorded admin-ajax answer, so only "
+                    + "the request plumbing is checked; no verdicts (use -Dfixtures.mode=live -Dforms.allowLive=true)");
+        }
+
+        ElementorForm form = new ElementorForm(TargetSites.academia() + "/contact/");
+        Set<String> declared = form.fields();
+        System.out.printf("[forms] %s against %s (%d at a time, target %s)%n", DATA, TargetSites.academia(),
+                CONCURRENCY, mode);
+
+        long start = System.nanoTime();
+        Queue<Verdict> verdicts = new ConcurrentLinkedQueue<>();
+        Set<String> skipped = new ConcurrentSkipListSet<>();
+        for (String file : DATA) {
+            CsvDataProviders.forEach(CsvDataProviders.resolve(file), "", CONCURRENCY, row -> {
+                int split = row.group().lastIndexOf('_');
+                String field = split < 0 ? null : row.group().substring(0, split);
+                String expectation = split < 0 ? "" : row.group().substring(split + 1);
+                if (field == null || !declared.contains(field) || !Set.of("valid", "invalid").contains(expectation)) {
+                    skipped.add(file + ":" + row.group());
+                    return;
+                }
+                verdicts.add(check(form, new Case(file, row, field, "valid".equals(expectation)), replay));
+            });
+        }
+        if (!skipped.isEmpty()) {
+            System.out.println("[forms] the contact form declares no field for groups " + skipped
+                    + "; rows written for another form stay on its browser tests");
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        boolean failed = report(List.copyOf(verdicts), elapsed);
+        if (!replay) {
+            writeBrowserOnly(List.copyOf(verdicts));
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    private static Verdict check(ElementorForm form, Case test, boolean replay) {
+        Map<String, String> values = new LinkedHashMap<>(BASELINE);
+        values.put(test.field(), test.row().value());
+        ElementorForm.Result result;
+        try {
+            result = form.submit(values);
+        } catch (IOException e) {
+            return new Verdict(test, "error", null, e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Verdict(test, "error", null, e.toString());
+        }
+        String outcome;
+        if (replay) {
+            outcome = "replayed";
+        } else if (test.expectValid()) {
+            outcome = result.success() ? "passed" : "failed";
+        } else if (result.rejects(test.field())) {
+            outcome = "passed";
+        } else {
+            outcome = result.success() ? "browser-only" : "failed";
+        }
+        return new Verdict(test, outcome, result, null);
+    }
+
+    private static boolean report(List<Verdict> verdicts, double elapsed) throws IOException {
+        Map<String, Long> counts = verdicts.stream()
+                .collect(Collectors.groupingBy(Verdict::outcome, LinkedHashMap::new, Collectors.counting()));
+        System.out.printf("[forms] %d rows in %.1fs: %s%n", verdicts.size(), elapsed, counts);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Verdict verdict : verdicts) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("case", verdict.test().id());
+            row.put("field", verdict.test().field());
+            row.put("value", verdict.test().row().value());
+            row.put("expected", verdict.test().expectValid() ? "accepted" : "rejected");
+            row.put("outcome", verdict.outcome());
+            if (verdict.result() != null) {
+                row.put("status", verdict.result().status());
+                row.put("success", verdict.result().success());
+                row.put("message", verdict.result().message());
+                row.put("errors", verdict.result().errors());
+                row.put("millis", verdict.result().millis());
+            } else {
+                row.put("error", verdict.error());
+            }
+            rows.add(row);
+            if ("failed".equals(verdict.outcome()) || "error".equals(verdict.outcome())) {
+                System.out.printf("[forms]   %s %s: expected %s, got %s%n", verdict.outcome().toUpperCase(),
+                        verdict.test().id(), row.get("expected"),
+                        verdict.result() == null ? verdict.error() : verdict.result().errors().isEmpty()
+                                ? verdict.result().message() : verdict.result().errors());
+            }
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("elapsedSeconds", Math.round(elapsed * 10) / 10.0);
+        json.put("outcomes", counts);
+        json.put("rows", rows);
+        Files.createDirectories(DIR);
+        Files.writeString(DIR.resolve("report.json"), new Json().toJson(json), StandardCharsets.UTF_8);
+        System.out.println("[forms] report written to " + DIR.resolve("report.json"));
+        return counts.containsKey("failed") || counts.containsKey("error");
+    }
+
+    // Same group,label,value layout as tests/data, so the browser path reads it with CsvDataProviders.
+    private static void writeBrowserOnly(List<Verdict> verdicts) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# rows the contact form endpoint accepts although they are invalid; written by FormValidationRunner");
+        for (Verdict verdict : verdicts) {
+            if ("browser-only".equals(verdict.outcome())) {
+                TestDataRow row = verdict.test().row();
+                lines.add(quote(row.group()) + "," + quote(row.label()) + "," + quote(row.value()));
+            }
+        }
+        Files.createDirectories(DIR);
+        Files.write(BROWSER_ONLY, lines, StandardCharsets.UTF_8);
+        System.out.printf("[forms] %d browser-only rows written to %s%n", lines.size() - 1, BROWSER_ONLY);
+    }
+
+    private static String quote(String field) {
+        return "\"" + field.replace("\"", "\"\"") + "\"";
+    }
+
+    private static List<String> list(String csv) {
+        return Arrays.stream(csv.split(",")).map(String::trim).filter(item -> !item.isEmpty()).toList();
+    }
+
+    // Blank counts as unset: the pom profile always passes every -Dforms.* flag.
+    private static String setting(String name, String fallback) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? fallback : value.trim();
+    }
+}
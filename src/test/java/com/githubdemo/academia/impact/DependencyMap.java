@@ -0,0 +1,127 @@
+package com.githubdemo.academia.impact;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import org.openqa.selenium.json.Json;
+
+// Test method ("Class.method") -> the academia classes on the stack of its WebDriver commands (test,
+// page objects, helpers), the locators it resolved and the URLs it opened. Recorded by
+// DependencyRecorder during normal runs and merged into target/impact/dependency-map.json at suite
+// end: tests that ran replace their entry, the rest keep the previous one. The file also carries
+// the rotation counter for ImpactSelector's sample of unaffected tests.
+public final class DependencyMap {
+    static final Path FILE = Paths.get(System.getProperty("impact.map", "target/impact/dependency-map.json"));
+    private static final Map<String, Dependencies> RECORDED = new ConcurrentHashMap<>();
+    private static final Json JSON = new Json();
+
+    private DependencyMap() {
+    }
+
+    public record Dependencies(Set<String> classes, Set<String> locators, Set<String> urls) {
+        private static Dependencies concurrent() {
+            return new Dependencies(ConcurrentHashMap.newKeySet(), ConcurrentHashMap.newKeySet(),
+                    ConcurrentHashMap.newKeySet());
+        }
+
+        private Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("classes", new TreeSet<>(classes));
+            json.put("locators", new TreeSet<>(locators));
+            json.put("urls", new TreeSet<>(urls));
+            return json;
+        }
+
+        private static Dependencies fromJson(Map<?, ?> json) {
+            return new Dependencies(strings(json.get("classes")), strings(json.get("locators")),
+                    strings(json.get("urls")));
+        }
+
+        private static Set<String> strings(Object raw) {
+            Set<String> values = new TreeSet<>();
+            if (raw instanceof List<?> list) {
+                list.forEach(value -> values.add(String.valueOf(value)));
+            }
+            return values;
+        }
+    }
+
+    record Stored(Map<String, Dependencies> tests, int rotation) {
+    }
+
+    static Dependencies recording(String test) {
+        return RECORDED.computeIfAbsent(test, key -> Dependencies.concurrent());
+    }
+
+    static Stored read() {
+        if (!Files.isRegularFile(FILE)) {
+            return new Stored(Map.of(), 0);
+        }
+        try {
+            Map<String, Object> json = JSON.toType(Files.readString(FILE, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            Map<String, Dependencies> tests = new TreeMap<>();
+            if (json.get("tests") instanceof Map<?, ?> raw) {
+                raw.forEach((test, deps) -> tests.put(String.valueOf(test), Dependencies.fromJson((Map<?, ?>) deps)));
+            }
+            Object rotation = json.get("rotation");
+            return new Stored(tests, rotation instanceof Number n ? n.intValue() : 0);
+        } catch (IOException | RuntimeException e) {
+            // an unreadable map only costs one full run
+            System.err.println("[impact] ignoring unreadable " + FILE + ": " + e);
+            return new Stored(Map.of(), 0);
+        }
+    }
+
+    // Merges this JVM's recordings into the file; call at suite end.
+    public static void write() {
+        if (!RECORDED.isEmpty()) {
+            update(stored -> {
+                Map<String, Dependencies> tests = new TreeMap<>(stored.tests());
+                tests.putAll(RECORDED);
+                return new Stored(tests, stored.rotation());
+            });
+        }
+    }
+
+    static void advanceRotation() {
+        update(stored -> new Stored(stored.tests(), stored.rotation() + 1));
+    }
+
+    // Shard JVMs finish together: serialize read-merge-write through a lock file.
+    private static void update(UnaryOperator<Stored> change) {
+        try {
+            Path dir = FILE.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            try (FileChannel lockFile = FileChannel.open(dir.resolve(FILE.getFileName() + ".lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = lockFile.lock()) {
+                Stored updated = change.apply(read());
+                Map<String, Object> json = new LinkedHashMap<>();
+                json.put("rotation", updated.rotation());
+                Map<String, Object> tests = new TreeMap<>();
+                updated.tests().forEach((test, deps) -> tests.put(test, deps.toJson()));
+                json.put("tests", tests);
+                Path temp = Files.createTempFile(dir, "dependency-map", ".tmp");
+                Files.writeString(temp, JSON.toJson(json), StandardCharsets.UTF_8);
+                Files.move(temp, FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            System.err.println("[impact] could not write " + FILE + ": " + e);
+        }
+    }
+}
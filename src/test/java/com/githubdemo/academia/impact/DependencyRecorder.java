@@ -0,0 +1,116 @@
+package com.githubdemo.academia.impact;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import com.githubdemo.academia.bestpractices.StepTimeline;
+
+// Feeds DependencyMap from the live session (-Dimpact.record=false to disable): every command
+// walks the stack for com.githubdemo.academia classes, lookups record their locator, get() its
+// URL. Locators FormFiller/PageSnapshot resolve in-page are read from the script arguments.
+public class DependencyRecorder implements WebDriverListener {
+    private static final String ROOT = "com.githubdemo.academia.";
+    private static final String SELF = ROOT + "impact.";
+    private static final StackWalker STACK = StackWalker.getInstance();
+
+    public static boolean enabled() {
+        return Boolean.parseBoolean(System.getProperty("impact.record", "true"));
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        DependencyMap.Dependencies deps = current();
+        if (deps == null) {
+            return;
+        }
+        Set<String> classes = deps.classes();
+        STACK.forEach(frame -> {
+            String name = frame.getClassName();
+            if (name.startsWith(ROOT) && !name.startsWith(SELF)) {
+                int nested = name.indexOf('$');
+                classes.add(nested < 0 ? name : name.substring(0, nested));
+            }
+        });
+    }
+
+    @Override
+    public void beforeGet(WebDriver driver, String url) {
+        DependencyMap.Dependencies deps = current();
+        if (deps != null) {
+            deps.urls().add(url);
+        }
+    }
+
+    @Override
+    public void beforeFindElement(WebDriver driver, By locator) {
+        locator(locator);
+    }
+
+    @Override
+    public void beforeFindElements(WebDriver driver, By locator) {
+        locator(locator);
+    }
+
+    @Override
+    public void beforeFindElement(WebElement element, By locator) {
+        locator(locator);
+    }
+
+    @Override
+    public void beforeFindElements(WebElement element, By locator) {
+        locator(locator);
+    }
+
+    @Override
+    public void beforeExecuteScript(WebDriver driver, String script, Object[] args) {
+        scriptLocators(args);
+    }
+
+    @Override
+    public void beforeExecuteAsyncScript(WebDriver driver, String script, Object[] args) {
+        scriptLocators(args);
+    }
+
+    private static void locator(By locator) {
+        DependencyMap.Dependencies deps = current();
+        if (deps != null) {
+            deps.locators().add(locator.toString());
+        }
+    }
+
+    // FormFiller/PageSnapshot pass [{using, value, ...}] descriptors instead of By objects.
+    private static void scriptLocators(Object[] args) {
+        DependencyMap.Dependencies deps = current();
+        if (deps == null || args == null) {
+            return;
+        }
+        for (Object arg : args) {
+            if (arg instanceof List<?> list) {
+                for (Object item : list) {
+                    if (item instanceof Map<?, ?> descriptor && descriptor.get("using") != null
+                            && descriptor.get("value") != null) {
+                        deps.locators().add("By." + descriptor.get("using") + ": " + descriptor.get("value"));
+                    }
+                }
+            }
+        }
+    }
+
+    // "Class.method", also for sections NavigationService runs as "Class.method.Section".
+    private static DependencyMap.Dependencies current() {
+        String test = StepTimeline.currentTest();
+        if (test == null) {
+            return null;
+        }
+        int first = test.indexOf('.');
+        int second = first < 0 ? -1 : test.indexOf('.', first + 1);
+        return DependencyMap.recording(second < 0 ? test : test.substring(0, second));
+    }
+}
@@ -0,0 +1,29 @@
+package com.githubdemo.academia.impact;
+
+import java.util.List;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+// Applies ImpactSelector to plain surefire/TestNG runs; registered through META-INF/services and
+// inert unless -Dimpact=true. ShardRunner filters before planning instead, so forks run what they get.
+public class ImpactInterceptor implements IMethodInterceptor {
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ImpactSelector.enabled()) {
+            return methods;
+        }
+        ImpactSelector.Selection selection = ImpactSelector.select(methods.stream().map(ImpactInterceptor::name)
+                .distinct().toList());
+        return methods.stream()
+                .filter(instance -> selection.selected().contains(name(instance)))
+                .toList();
+    }
+
+    private static String name(IMethodInstance instance) {
+        ITestNGMethod method = instance.getMethod();
+        return method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+}
@@ -0,0 +1,336 @@
+package com.githubdemo.academia.impact;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.githubdemo.academia.data.CsvDataProviders;
+import com.githubdemo.academia.data.CsvSource;
+
+// Change-based test selection (-Dimpact=true): diffs the working tree against impact.base and runs
+// only the test methods whose recorded dependencies (see DependencyMap) were touched, plus
+// impact.sample unaffected methods chosen round-robin so every test still runs regularly.
+//   - a changed class narrows to the tests that had it on their stack;
+//   - if every changed line is the same code with different string literals and the old values match
+//     recorded locators or URLs, only the tests that used one of them are kept (one edited By -> its
+//     tests); any other edit in the file counts as a logic change;
+//   - a changed tests/data CSV selects the methods whose @CsvSource names it;
+//   - methods missing from the map always run; any change the map cannot explain (pom.xml, suite
+//     XML, an unrecorded class) falls back to the full suite.
+// Paths matching impact.ignore (docs, Playwright TS specs and helpers, benchmarks, tooling) never select
+// anything; tests/data is deliberately not ignored.
+public final class ImpactSelector {
+    private static final String BASE = System.getProperty("impact.base", "HEAD~1");
+    private static final int SAMPLE = Integer.getInteger("impact.sample", 2);
+    private static final List<PathMatcher> IGNORED = Arrays.stream(System.getProperty("impact.ignore",
+                    "**.md,*.md,tests/**.ts,tests/**.json,tests/helpers/**,*.ts,*.json,src/jmh/**,"
+                            + "src/test/java/com/githubdemo/academia/sharding/**,"
+                            + "src/test/java/com/githubdemo/academia/impact/**").split(","))
+            .map(String::trim)
+            .filter(glob -> !glob.isEmpty())
+            .map(glob -> FileSystems.getDefault().getPathMatcher("glob:" + glob))
+            .toList();
+    private static final Path SOURCES = Paths.get("src", "test", "java");
+    private static final Path DATA = Paths.get("tests", "data");
+    private static final Pattern LITERAL = Pattern.compile("\"((?:[^\"\\\\]|\\\\.)*)\"");
+    private static final AtomicBoolean ROTATED = new AtomicBoolean();
+
+    private ImpactSelector() {
+    }
+
+    public static boolean enabled() {
+        return Boolean.getBoolean("impact");
+    }
+
+    // Candidates and the result use "fully.qualified.Class#method".
+    public record Selection(Set<String> selected, Map<String, String> reasons) {
+        public boolean includes(String className, String method) {
+            return selected.contains(className + "#" + method);
+        }
+    }
+
+    // lines keep their diff sign: "+added" / "-removed"; "@@" separates hunks.
+    record Change(String path, List<String> lines) {
+    }
+
+    public static Selection select(Collection<String> candidates) {
+        DependencyMap.Stored map = DependencyMap.read();
+        Map<String, String> reasons = new LinkedHashMap<>();
+        List<Change> changes;
+        try {
+            changes = diff(BASE);
+        } catch (IOException | RuntimeException e) {
+            return everything(candidates, "git diff against " + BASE + " failed: " + e.getMessage());
+        }
+        if (map.tests().isEmpty()) {
+            return everything(candidates, "no dependency map yet at " + DependencyMap.FILE);
+        }
+
+        for (String candidate : candidates) {
+            if (!map.tests().containsKey(key(candidate))) {
+                reasons.put(candidate, "no recorded dependencies");
+            }
+        }
+        for (Change change : changes) {
+            if (ignored(change.path)) {
+                continue;
+            }
+            if (Paths.get(change.path).startsWith(DATA)) {
+                for (String consumer : dataConsumers(change.path, candidates)) {
+                    reasons.putIfAbsent(consumer, "reads changed " + change.path);
+                }
+                continue;
+            }
+            String changedClass = classOf(change.path);
+            if (changedClass == null) {
+                return everything(candidates, change.path + " changed");
+            }
+            List<String> users = new ArrayList<>();
+            for (String candidate : candidates) {
+                DependencyMap.Dependencies deps = map.tests().get(key(candidate));
+                if (candidate.startsWith(changedClass + "#") || deps != null && deps.classes().contains(changedClass)) {
+                    users.add(candidate);
+                }
+            }
+            if (users.isEmpty()) {
+                return everything(candidates, changedClass + " changed and no recorded test uses it");
+            }
+            Set<String> literals = changedLiterals(change.lines, users, map);
+            for (String user : users) {
+                if (literals == null) {
+                    reasons.putIfAbsent(user, simpleName(changedClass) + " changed");
+                } else {
+                    DependencyMap.Dependencies deps = map.tests().get(key(user));
+                    literals.stream()
+                            .filter(literal -> deps != null && uses(deps, literal))
+                            .findFirst()
+                            .ifPresent(literal -> reasons.putIfAbsent(user, "uses changed \"" + literal + "\""));
+                }
+            }
+        }
+
+        Set<String> selected = new LinkedHashSet<>(reasons.keySet());
+        sample(candidates, selected, map.rotation(), reasons);
+        print(candidates.size(), changes.size(), reasons);
+        return new Selection(selected, reasons);
+    }
+
+    // Old values of the literals a change edits, when they match some user's recorded locators/URLs;
+    // null when the change is anything more than a literal edit (every user of the class is affected).
+    // Within each hunk the n-th removed line pairs with the n-th added line, and the pair must be the
+    // same code once literals are blanked; unpaired lines (added throw, new branch) never narrow.
+    static Set<String> changedLiterals(List<String> lines, List<String> users, DependencyMap.Stored map) {
+        Set<String> matched = new LinkedHashSet<>();
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        List<String> withEnd = new ArrayList<>(lines);
+        withEnd.add("@@");
+        for (String line : withEnd) {
+            if (line.startsWith("@@")) {
+                if (removed.size() != added.size()) {
+                    return null;
+                }
+                for (int i = 0; i < removed.size(); i++) {
+                    Set<String> edited = editedLiterals(removed.get(i), added.get(i));
+                    if (edited == null) {
+                        return null;
+                    }
+                    Set<String> recorded = new LinkedHashSet<>();
+                    for (String value : edited) {
+                        for (String user : users) {
+                            DependencyMap.Dependencies deps = map.tests().get(key(user));
+                            if (deps != null && uses(deps, value)) {
+                                recorded.add(value);
+                            }
+                        }
+                    }
+                    if (recorded.isEmpty()) {
+                        return null;
+                    }
+                    matched.addAll(recorded);
+                }
+                removed.clear();
+                added.clear();
+                continue;
+            }
+            String code = line.substring(1).trim();
+            if (code.isEmpty() || code.startsWith("//") || code.startsWith("*") || code.startsWith("/*")) {
+                continue;
+            }
+            (line.startsWith("-") ? removed : added).add(code);
+        }
+        return matched.isEmpty() ? null : matched;
+    }
+
+    // Old values of the literals that differ between the two lines; null unless both lines are the
+    // same code with their literals blanked and at least one literal actually changed.
+    private static Set<String> editedLiterals(String before, String after) {
+        if (!blankLiterals(before).equals(blankLiterals(after))) {
+            return null;
+        }
+        List<String> oldValues = literals(before);
+        List<String> newValues = literals(after);
+        Set<String> edited = new LinkedHashSet<>();
+        for (int i = 0; i < oldValues.size(); i++) {
+            if (!oldValues.get(i).equals(newValues.get(i))) {
+                edited.add(oldValues.get(i));
+            }
+        }
+        return edited.isEmpty() ? null : edited;
+    }
+
+    private static String blankLiterals(String code) {
+        return LITERAL.matcher(code).replaceAll("\"\"").replaceAll("\\s+", " ");
+    }
+
+    private static List<String> literals(String code) {
+        List<String> values = new ArrayList<>();
+        Matcher literal = LITERAL.matcher(code);
+        while (literal.find()) {
+            values.add(literal.group(1).replace("\\\"", "\"").replace("\\\\", "\\"));
+        }
+        return values;
+    }
+
+    // Same lookup as CsvDataProviders.resolve, which fails for a file the change deleted.
+    private static Path dataFile(String file) {
+        try {
+            return CsvDataProviders.resolve(file).toAbsolutePath().normalize();
+        } catch (IllegalArgumentException e) {
+            return DATA.resolve(file).toAbsolutePath().normalize();
+        }
+    }
+
+    // Candidates whose @CsvSource file resolves to the changed data file.
+    static List<String> dataConsumers(String path, Collection<String> candidates) {
+        Path changed = Paths.get(path).toAbsolutePath().normalize();
+        List<String> consumers = new ArrayList<>();
+        for (String candidate : candidates) {
+            int hash = candidate.indexOf('#');
+            try {
+                for (Method method : Class.forName(candidate.substring(0, hash)).getMethods()) {
+                    CsvSource source = method.getAnnotation(CsvSource.class);
+                    if (source != null && method.getName().equals(candidate.substring(hash + 1))
+                            && changed.equals(dataFile(source.file()))) {
+                        consumers.add(candidate);
+                    }
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                // not loadable here: nothing recorded about its data either
+            }
+        }
+        return consumers;
+    }
+
+    private static boolean uses(DependencyMap.Dependencies deps, String literal) {
+        return deps.locators().stream().anyMatch(locator -> locator.contains(literal))
+                || deps.urls().stream().anyMatch(url -> url.contains(literal));
+    }
+
+    // Round-robin over the unaffected methods; the window moves once per JVM.
+    private static void sample(Collection<String> candidates, Set<String> selected, int rotation,
+                               Map<String, String> reasons) {
+        List<String> rest = candidates.stream().filter(candidate -> !selected.contains(candidate)).sorted().toList();
+        int count = Math.min(SAMPLE, rest.size());
+        for (int i = 0; i < count; i++) {
+            String sampled = rest.get((rotation * SAMPLE + i) % rest.size());
+            selected.add(sampled);
+            reasons.put(sampled, "rotating sample");
+        }
+        if (ROTATED.compareAndSet(false, true)) {
+            DependencyMap.advanceRotation();
+        }
+    }
+
+    private static Selection everything(Collection<String> candidates, String reason) {
+        System.out.printf("[impact] running all %d test methods: %s%n", candidates.size(), reason);
+        Map<String, String> reasons = new LinkedHashMap<>();
+        candidates.forEach(candidate -> reasons.put(candidate, reason));
+        return new Selection(new LinkedHashSet<>(candidates), reasons);
+    }
+
+    private static void print(int candidates, int changedFiles, Map<String, String> reasons) {
+        System.out.printf("[impact] %d changed files vs %s: running %d of %d test methods%n", changedFiles, BASE,
+                reasons.size(), candidates);
+        reasons.forEach((test, reason) -> System.out.printf("[impact]   %s (%s)%n", test, reason));
+    }
+
+    // Committed changes since base plus uncommitted edits; untracked files count as fully changed.
+    static List<Change> diff(String base) throws IOException {
+        Map<String, List<String>> lines = new LinkedHashMap<>();
+        String current = null;
+        for (String line : git("diff", "--unified=0", "--no-color", "--no-ext-diff", base, "--")) {
+            if (line.startsWith("diff --git ")) {
+                current = line.substring(line.lastIndexOf(" b/") + 3);
+                lines.put(current, new ArrayList<>());
+            } else if (current != null && (line.startsWith("@@") || !line.startsWith("+++") && !line.startsWith("---")
+                    && (line.startsWith("+") || line.startsWith("-")))) {
+                lines.get(current).add(line);
+            }
+        }
+        for (String untracked : git("ls-files", "--others", "--exclude-standard")) {
+            // no line-level detail: a new file is explained only by its class
+            lines.putIfAbsent(untracked, List.of("+new file"));
+        }
+        List<Change> changes = new ArrayList<>();
+        lines.forEach((path, changed) -> changes.add(new Change(path, changed)));
+        return changes;
+    }
+
+    private static List<String> git(String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        try {
+            if (process.waitFor() != 0) {
+                throw new IOException(String.join(" ", command) + ": " + output.strip());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        return output.lines().toList();
+    }
+
+    static boolean ignored(String path) {
+        Path file = Paths.get(path);
+        return IGNORED.stream().anyMatch(matcher -> matcher.matches(file));
+    }
+
+    // src/test/java/com/x/Foo.java -> com.x.Foo; null for anything that is not test Java source.
+    private static String classOf(String path) {
+        Path file = Paths.get(path);
+        if (!file.startsWith(SOURCES) || !path.endsWith(".java")) {
+            return null;
+        }
+        String relative = SOURCES.relativize(file).toString().replace(file.getFileSystem().getSeparator(), ".");
+        return relative.substring(0, relative.length() - ".java".length());
+    }
+
+    // The map is keyed like StepTimeline: "SimpleClass.method".
+    private static String key(String candidate) {
+        int hash = candidate.indexOf('#');
+        return simpleName(candidate.substring(0, hash)) + "." + candidate.substring(hash + 1);
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
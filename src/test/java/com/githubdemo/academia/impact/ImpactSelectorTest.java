@@ -0,0 +1,105 @@
+package com.githubdemo.academia.impact;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+// changedLiterals decides which tests are left out, so a logic change must never pass for a locator edit.
+public class ImpactSelectorTest {
+    private static final String TRIMITE = "//span[@class='elementor-button-text' and normalize-space()='Trimite']";
+    private static final List<String> USERS = List.of("com.githubdemo.academia.Contact#contactFormTest");
+    private static final DependencyMap.Stored MAP = new DependencyMap.Stored(Map.of("Contact.contactFormTest",
+            new DependencyMap.Dependencies(Set.of("com.githubdemo.academia.AcademiaFlows"),
+                    Set.of("By.xpath: " + TRIMITE), Set.of("https://academiatestarii.ro/contact/"))), 0);
+
+    @Test
+    public void locatorEditNarrowsToItsOldValue() {
+        Set<String> literals = ImpactSelector.changedLiterals(List.of(
+                "@@ -28 +28 @@",
+                "-    static final By TRIMITE = By.xpath(\"" + TRIMITE + "\");",
+                "+    static final By TRIMITE = By.xpath(\"" + TRIMITE.replace("Trimite", "Trimite mesaj") + "\");"),
+                USERS, MAP);
+        Assert.assertEquals(literals, Set.of(TRIMITE));
+    }
+
+    @Test
+    public void editsInSeveralHunksNarrowTogether() {
+        Set<String> literals = ImpactSelector.changedLiterals(List.of(
+                "@@ -28 +28 @@",
+                "-    static final By TRIMITE = By.xpath(\"" + TRIMITE + "\");",
+                "+    static final By TRIMITE = By.xpath(\"//button[@type='submit']\");",
+                "@@ -60 +60 @@",
+                "-        d.get(\"https://academiatestarii.ro/contact/\");",
+                "+        d.get(\"https://academiatestarii.ro/contact-us/\");"),
+                USERS, MAP);
+        Assert.assertEquals(literals, Set.of(TRIMITE, "https://academiatestarii.ro/contact/"));
+    }
+
+    @Test
+    public void logicChangeCarryingALiteralIsNotALocatorEdit() {
+        Assert.assertNull(ImpactSelector.changedLiterals(List.of(
+                "@@ -70 +70 @@",
+                "-        if (x) click(\"Trimite\");",
+                "+        if (!x) click(\"Trimite\");"),
+                USERS, MAP));
+    }
+
+    @Test
+    public void addedLineNextToALocatorEditIsNotExplained() {
+        Assert.assertNull(ImpactSelector.changedLiterals(List.of(
+                "@@ -28 +28,2 @@",
+                "-    static final By TRIMITE = By.xpath(\"" + TRIMITE + "\");",
+                "+    static final By TRIMITE = By.xpath(\"//button[@type='submit']\");",
+                "+        throw new IllegalStateException(\"Trimite button missing\");"),
+                USERS, MAP));
+    }
+
+    @Test
+    public void pureAdditionIsNotExplained() {
+        Assert.assertNull(ImpactSelector.changedLiterals(List.of(
+                "@@ -70,0 +71 @@",
+                "+        click(\"Trimite\");"),
+                USERS, MAP));
+    }
+
+    @Test
+    public void editOfAnUnrecordedLiteralIsNotExplained() {
+        Assert.assertNull(ImpactSelector.changedLiterals(List.of(
+                "@@ -90 +90 @@",
+                "-        Assert.assertTrue(ok, \"Contact link should be visible\");",
+                "+        Assert.assertTrue(ok, \"Contact link must be visible\");"),
+                USERS, MAP));
+    }
+
+    @Test
+    public void commentLinesDoNotCount() {
+        Set<String> literals = ImpactSelector.changedLiterals(List.of(
+                "@@ -27,2 +27,2 @@",
+                "-    // the Trimite button",
+                "-    static final By TRIMITE = By.xpath(\"" + TRIMITE + "\");",
+                "+    // the submit button",
+                "+    static final By TRIMITE = By.xpath(\"//button[@type='submit']\");"),
+                USERS, MAP);
+        Assert.assertEquals(literals, Set.of(TRIMITE));
+    }
+
+    @Test
+    public void dataFilesAreNotIgnoredButTypeScriptIs() {
+        Assert.assertFalse(ImpactSelector.ignored("tests/data/numeprenume.csv"));
+        Assert.assertTrue(ImpactSelector.ignored("tests/numeprenume.spec.ts"));
+        Assert.assertTrue(ImpactSelector.ignored("tests/helpers/readCsv.ts"));
+        Assert.assertTrue(ImpactSelector.ignored("tests/best practices/siteModels.ts"));
+    }
+
+    @Test
+    public void changedDataFileSelectsItsCsvSourceMethods() {
+        List<String> candidates = List.of("com.githubdemo.academia.FieldValidation#numePrenume",
+                "com.githubdemo.academia.FieldValidation#profesieTelefon", "com.githubdemo.academia.Contact#contactFormTest");
+        Assert.assertEquals(ImpactSelector.dataConsumers("tests/data/numeprenume.csv", candidates),
+                List.of("com.githubdemo.academia.FieldValidation#numePrenume"));
+        Assert.assertEquals(ImpactSelector.dataConsumers("tests/data/calendar.csv", candidates), List.of());
+    }
+}
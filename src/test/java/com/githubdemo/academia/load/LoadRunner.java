@@ -0,0 +1,227 @@
+package com.githubdemo.academia.load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import com.githubdemo.academia.AcademiaFlows;
+import com.githubdemo.academia.bestpractices.DriverFactory;
+import com.githubdemo.academia.bestpractices.FlowExecutor;
+import com.githubdemo.academia.bestpractices.PlaywrightHomePage;
+import com.githubdemo.academia.bestpractices.TimedWait;
+import com.githubdemo.academia.fixtures.TargetSites;
+
+// Synthetic load from the suite's own UI flows: load.users virtual users, each with its own
+// headless session on a virtual thread, started evenly over load.rampUpSeconds, loop a flow for
+// load.durationSeconds with load.thinkMs (+-50%) between steps. Prints throughput and p50/p95/p99
+// per step and writes target/load/report.json.
+// Targets the local FixtureServer replay (-Dfixtures.mode=replay is the default here), so it runs on
+// isolated machines and never submits forms to the real sites; live and record targets need
+// -Dload.allowLive=true.
+//
+//   ./mvnw -Pload test-compile exec:exec -Dload.flow=contact -Dload.users=8
+public final class LoadRunner {
+    private static final String FLOW = setting("load.flow", "get-started");
+    private static final int USERS = Math.max(1, Integer.getInteger("load.users", 4));
+    private static final Duration RAMP_UP = Duration.ofSeconds(Long.getLong("load.rampUpSeconds", 10));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.durationSeconds", 60));
+    private static final long THINK_MS = Long.getLong("load.thinkMs", 500);
+    private static final long LAUNCH_RETRY_MS = 2_000;
+    private static final Path DIR = Paths.get(setting("load.dir", "target/load"));
+    private static final Map<String, Flow> FLOWS = Map.of(
+            "get-started", LoadRunner::getStarted,
+            "contact", LoadRunner::contact);
+
+    private LoadRunner() {
+    }
+
+    // One iteration of a user journey; each timed step is a separate latency series.
+    @FunctionalInterface
+    interface Flow {
+        void run(WebDriver driver, Steps steps, int user, int iteration);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Flow flow = FLOWS.get(FLOW);
+        if (flow == null) {
+            throw new IllegalArgumentException("Unknown load.flow " + FLOW + "; choose one of " + FLOWS.keySet());
+        }
+        if (setting("fixtures.mode", "").isEmpty()) {
+            System.setProperty("fixtures.mode", "replay");
+        }
+        // record proxies every request, form POSTs included, to the real sites as well
+        if (!"replay".equalsIgnoreCase(System.getProperty("fixtures.mode")) && !Boolean.getBoolean("load.allowLive")) {
+            throw new IllegalStateException("Refusing to load the live sites in " + System.getProperty("fixtures.mode")
+                    + " mode; use -Dfixtures.mode=replay or set -Dload.allowLive=true");
+        }
+        // headless sessions without third-party/heavy resources
+        if (setting("browser.profile", "").isEmpty()) {
+            System.setProperty("browser.profile", "lean");
+        }
+
+        LoadStats stats = new LoadStats();
+        long start = System.nanoTime();
+        long deadline = start + DURATION.toNanos();
+        System.out.printf("[load] %s: %d users, ramp-up %ds, %ds, think %dms, target %s%n", FLOW, USERS,
+                RAMP_UP.toSeconds(), DURATION.toSeconds(), THINK_MS, System.getProperty("fixtures.mode"));
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int user = 0; user < USERS; user++) {
+                long startAt = start + RAMP_UP.toNanos() * user / USERS;
+                int id = user;
+                running.add(users.submit(() -> runUser(flow, id, startAt, deadline, stats)));
+            }
+            for (Future<?> user : running) {
+                user.get();
+            }
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        report(stats.toJson(elapsed, USERS));
+    }
+
+    private static void runUser(Flow flow, int user, long startAt, long deadline, LoadStats stats) {
+        pause(TimeUnit.NANOSECONDS.toMillis(startAt - System.nanoTime()));
+        WebDriver driver = null;
+        try {
+            for (int iteration = 0; System.nanoTime() < deadline; iteration++) {
+                Steps steps = new Steps(stats);
+                try {
+                    if (driver == null) {
+                        // a failed launch is a failed iteration, not the end of the run
+                        steps.current = "launch-browser";
+                        long launchStart = System.nanoTime();
+                        driver = DriverFactory.createDriver();
+                        stats.record("launch-browser", System.nanoTime() - launchStart);
+                    }
+                    flow.run(driver, steps, user, iteration);
+                    stats.iteration(true);
+                } catch (RuntimeException | AssertionError e) {
+                    stats.error(steps.current);
+                    stats.iteration(false);
+                    System.err.printf("[load] user %d iteration %d failed in %s: %s%n", user, iteration, steps.current,
+                            e.toString().lines().findFirst().orElse(""));
+                    if (driver == null) {
+                        // back off so a browser that cannot start does not spin until the deadline
+                        pause(Math.min(LAUNCH_RETRY_MS, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+                    } else {
+                        driver = reset(driver);
+                    }
+                }
+            }
+        } finally {
+            if (driver != null) {
+                try {
+                    DriverFactory.quitDriver(driver);
+                } catch (WebDriverException ignored) {
+                }
+            }
+        }
+    }
+
+    // Fresh state for the next iteration; a broken session is replaced.
+    private static WebDriver reset(WebDriver driver) {
+        try {
+            driver.manage().deleteAllCookies();
+            return driver;
+        } catch (WebDriverException e) {
+            try {
+                DriverFactory.quitDriver(driver);
+            } catch (WebDriverException ignored) {
+            }
+            return null;
+        }
+    }
+
+    // playwright.dev home -> Get started -> docs heading.
+    private static void getStarted(WebDriver driver, Steps steps, int user, int iteration) {
+        PlaywrightHomePage home = new PlaywrightHomePage(driver);
+        steps.run("open-home", home::open);
+        steps.run("go-to-get-started", home::goToGetStarted);
+        WebDriverWait wait = new TimedWait(driver, Duration.ofSeconds(15));
+        steps.run("docs-heading", () -> wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector("h1"))));
+    }
+
+    // academiatestarii.ro home -> Contact -> fill -> submit, with synthetic contact details per user.
+    private static void contact(WebDriver driver, Steps steps, int user, int iteration) {
+        WebDriverWait wait = new TimedWait(driver, Duration.ofSeconds(30));
+        AcademiaFlows flows = new AcademiaFlows(driver, wait, TargetSites.academia());
+        FlowExecutor flow = flows.executor();
+        AcademiaFlows.ContactDetails details = new AcademiaFlows.ContactDetails("Load", "User" + user, "0700000000",
+                "load-user-" + user + "@example.invalid");
+        // open-home always navigates: the previous iteration left the session on the contact page
+        steps.run("open-home", () -> driver.get(TargetSites.academia()));
+        steps.run("open-contact", () -> flow.run(flows.openContact()));
+        steps.run("fill-contact-form", () -> flow.run(flows.fillContactForm(details, "Load iteration " + iteration)));
+        steps.run("submit-contact-form", () -> flow.run(flows.submitContactForm()));
+    }
+
+    private static void report(Map<String, Object> json) throws IOException {
+        System.out.printf("[load] %s iterations (%s failed) in %ss: %s iterations/s%n", json.get("iterations"),
+                json.get("failedIterations"), json.get("elapsedSeconds"), json.get("iterationsPerSecond"));
+        ((Map<?, ?>) json.get("steps")).forEach((step, raw) -> {
+            Map<?, ?> stat = (Map<?, ?>) raw;
+            System.out.printf("[load]   %-22s n=%-6s err=%-4s %6s/s p50=%sms p95=%sms p99=%sms max=%sms%n", step,
+                    stat.get("count"), stat.get("errors"), stat.get("perSecond"), stat.get("p50Ms"), stat.get("p95Ms"),
+                    stat.get("p99Ms"), stat.get("maxMs"));
+        });
+        Files.createDirectories(DIR);
+        Files.writeString(DIR.resolve("report.json"), new Json().toJson(json), StandardCharsets.UTF_8);
+        System.out.println("[load] report written to " + DIR.resolve("report.json"));
+    }
+
+    private static void pause(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+    }
+
+    // Blank counts as unset: the pom profile always passes every -Dload.* flag.
+    private static String setting(String name, String fallback) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? fallback : value.trim();
+    }
+
+    // Times each step of one iteration and applies think time after it.
+    static final class Steps {
+        private final LoadStats stats;
+        private String current = "start";
+
+        private Steps(LoadStats stats) {
+            this.stats = stats;
+        }
+
+        void run(String name, Runnable step) {
+            current = name;
+            long start = System.nanoTime();
+            step.run();
+            stats.record(name, System.nanoTime() - start);
+            if (THINK_MS > 0) {
+                pause(ThreadLocalRandom.current().nextLong(THINK_MS / 2, THINK_MS * 3 / 2 + 1));
+            }
+        }
+    }
+}
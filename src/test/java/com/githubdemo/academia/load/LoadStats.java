@@ -0,0 +1,94 @@
+package com.githubdemo.academia.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-step latency samples and error counts across all virtual users; percentiles are nearest-rank
+// over every sample (load runs are short enough to keep them all).
+final class LoadStats {
+    private final Map<String, Step> steps = new ConcurrentHashMap<>();
+    private final List<String> order = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong iterations = new AtomicLong();
+    private final AtomicLong failedIterations = new AtomicLong();
+
+    void record(String step, long nanos) {
+        step(step).add(nanos);
+    }
+
+    void error(String step) {
+        step(step).errors.incrementAndGet();
+    }
+
+    void iteration(boolean passed) {
+        (passed ? iterations : failedIterations).incrementAndGet();
+    }
+
+    private Step step(String name) {
+        return steps.computeIfAbsent(name, key -> {
+            order.add(key);
+            return new Step();
+        });
+    }
+
+    Map<String, Object> toJson(double elapsedSeconds, int users) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("users", users);
+        json.put("elapsedSeconds", round(elapsedSeconds));
+        json.put("iterations", iterations.get());
+        json.put("failedIterations", failedIterations.get());
+        json.put("iterationsPerSecond", round(iterations.get() / elapsedSeconds));
+        Map<String, Object> perStep = new LinkedHashMap<>();
+        List<String> names;
+        synchronized (order) {
+            names = new ArrayList<>(order);
+        }
+        for (String name : names) {
+            perStep.put(name, steps.get(name).toJson(elapsedSeconds));
+        }
+        json.put("steps", perStep);
+        return json;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static final class Step {
+        private final List<Long> nanos = new ArrayList<>();
+        private final AtomicLong errors = new AtomicLong();
+
+        private synchronized void add(long sample) {
+            nanos.add(sample);
+        }
+
+        private Map<String, Object> toJson(double elapsedSeconds) {
+            List<Long> sorted;
+            synchronized (this) {
+                sorted = new ArrayList<>(nanos);
+            }
+            Collections.sort(sorted);
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("count", sorted.size());
+            json.put("errors", errors.get());
+            json.put("perSecond", round(sorted.size() / elapsedSeconds));
+            json.put("p50Ms", percentile(sorted, 50));
+            json.put("p95Ms", percentile(sorted, 95));
+            json.put("p99Ms", percentile(sorted, 99));
+            json.put("maxMs", sorted.isEmpty() ? 0 : round(sorted.get(sorted.size() - 1) / 1e6));
+            return json;
+        }
+
+        private static double percentile(List<Long> sorted, int percentile) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+            return round(sorted.get(Math.max(0, index)) / 1e6);
+        }
+    }
+}
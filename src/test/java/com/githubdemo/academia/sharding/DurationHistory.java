@@ -0,0 +1,95 @@
+package com.githubdemo.academia.sharding;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+// Per-method durations from JUnit-style TEST-*.xml reports (surefire, or the shard reports merged
+// back by ShardRunner). Files are read oldest first so the latest run of a method wins; data
+// provider invocations of one method are summed.
+final class DurationHistory {
+    private final Map<String, Double> seconds = new HashMap<>();
+
+    static DurationHistory load(Path reportsDir) {
+        DurationHistory history = new DurationHistory();
+        if (!Files.isDirectory(reportsDir)) {
+            return history;
+        }
+        List<Path> reports;
+        try (Stream<Path> files = Files.list(reportsDir)) {
+            reports = files.filter(file -> file.getFileName().toString().matches("TEST-.*\\.xml"))
+                    .sorted(Comparator.comparingLong(DurationHistory::lastModified))
+                    .toList();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        for (Path report : reports) {
+            history.read(report);
+        }
+        return history;
+    }
+
+    private void read(Path report) {
+        Map<String, Double> fromFile = new HashMap<>();
+        try {
+            NodeList cases = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                    .parse(report.toFile()).getElementsByTagName("testcase");
+            for (int i = 0; i < cases.getLength(); i++) {
+                Element testCase = (Element) cases.item(i);
+                String time = testCase.getAttribute("time").replace(",", "");
+                if (time.isEmpty()) {
+                    continue;
+                }
+                fromFile.merge(key(testCase.getAttribute("classname"), testCase.getAttribute("name")),
+                        Double.parseDouble(time), Double::sum);
+            }
+        } catch (Exception e) {
+            // a half-written or foreign report only costs us history, never the run
+            System.err.println("[shards] skipping " + report + ": " + e);
+            return;
+        }
+        seconds.putAll(fromFile);
+    }
+
+    // Methods without history get the median of known durations (or fallbackSeconds when empty).
+    double estimate(String className, String method, double fallbackSeconds) {
+        Double known = seconds.get(key(className, method));
+        return known != null ? known : median(fallbackSeconds);
+    }
+
+    boolean knows(String className, String method) {
+        return seconds.containsKey(key(className, method));
+    }
+
+    private double median(double fallbackSeconds) {
+        if (seconds.isEmpty()) {
+            return fallbackSeconds;
+        }
+        List<Double> sorted = new ArrayList<>(seconds.values());
+        sorted.sort(null);
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static String key(String className, String method) {
+        return className + "#" + method;
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
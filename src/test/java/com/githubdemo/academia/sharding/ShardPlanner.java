@@ -0,0 +1,47 @@
+package com.githubdemo.academia.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Longest-processing-time-first packing: methods sorted by expected duration, each placed on the
+// currently lightest shard. Lands within 4/3 of the optimal makespan, which is plenty here.
+final class ShardPlanner {
+    private ShardPlanner() {
+    }
+
+    record TestMethod(String className, String method, double expectedSeconds) {
+    }
+
+    static final class Shard {
+        final int index;
+        final List<TestMethod> methods = new ArrayList<>();
+        double expectedSeconds;
+
+        private Shard(int index) {
+            this.index = index;
+        }
+    }
+
+    static List<Shard> plan(List<TestMethod> methods, int shardCount) {
+        int count = Math.max(1, Math.min(shardCount, methods.size()));
+        PriorityQueue<Shard> lightest = new PriorityQueue<>(
+                Comparator.comparingDouble((Shard shard) -> shard.expectedSeconds).thenComparingInt(shard -> shard.index));
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Shard shard = new Shard(i);
+            shards.add(shard);
+            lightest.add(shard);
+        }
+        List<TestMethod> longestFirst = new ArrayList<>(methods);
+        longestFirst.sort(Comparator.comparingDouble(TestMethod::expectedSeconds).reversed());
+        for (TestMethod method : longestFirst) {
+            Shard shard = lightest.poll();
+            shard.methods.add(method);
+            shard.expectedSeconds += method.expectedSeconds();
+            lightest.add(shard);
+        }
+        return shards;
+    }
+}
@@ -0,0 +1,104 @@
+package com.githubdemo.academia.sharding;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+// Shard balance depends on both halves: the durations read back from reports and the LPT packing.
+public class ShardPlannerTest {
+    @Test
+    public void longestMethodsSpreadAcrossShards() {
+        List<ShardPlanner.Shard> shards = ShardPlanner.plan(List.of(method("a", 8), method("b", 7), method("c", 6),
+                method("d", 5), method("e", 4)), 2);
+        Assert.assertEquals(shards.size(), 2);
+        Assert.assertEquals(shards.get(0).expectedSeconds, 17.0);
+        Assert.assertEquals(shards.get(1).expectedSeconds, 13.0);
+        Assert.assertEquals(names(shards.get(0)), List.of("a", "d", "e"));
+        Assert.assertEquals(names(shards.get(1)), List.of("b", "c"));
+    }
+
+    @Test
+    public void shardCountIsCappedAtTheMethodCount() {
+        List<ShardPlanner.Shard> shards = ShardPlanner.plan(List.of(method("a", 1), method("b", 2)), 4);
+        Assert.assertEquals(shards.size(), 2);
+        Assert.assertTrue(shards.stream().noneMatch(shard -> shard.methods.isEmpty()));
+        Assert.assertEquals(ShardPlanner.plan(List.of(), 4).size(), 1);
+    }
+
+    @Test
+    public void dataProviderInvocationsAreSummed() throws IOException {
+        Path dir = Files.createTempDirectory("shard-history");
+        try {
+            report(dir, "TEST-a.xml", 0, testCase("C", "rows", "1.5"), testCase("C", "rows", "2.5"),
+                    testCase("C", "single", "1,000.0"));
+            DurationHistory history = DurationHistory.load(dir);
+            Assert.assertEquals(history.estimate("C", "rows", 0), 4.0);
+            Assert.assertEquals(history.estimate("C", "single", 0), 1000.0);
+        } finally {
+            delete(dir);
+        }
+    }
+
+    @Test
+    public void latestReportWins() throws IOException {
+        Path dir = Files.createTempDirectory("shard-history");
+        try {
+            // names sort the other way round, so only the modification time can order them
+            report(dir, "TEST-a-new.xml", 2_000_000, testCase("C", "m", "3.0"));
+            report(dir, "TEST-z-old.xml", 1_000_000, testCase("C", "m", "9.0"));
+            Assert.assertEquals(DurationHistory.load(dir).estimate("C", "m", 0), 3.0);
+        } finally {
+            delete(dir);
+        }
+    }
+
+    @Test
+    public void unknownMethodsGetTheMedian() throws IOException {
+        Path dir = Files.createTempDirectory("shard-history");
+        try {
+            Assert.assertEquals(DurationHistory.load(dir).estimate("C", "new", 30), 30.0);
+            report(dir, "TEST-a.xml", 0, testCase("C", "a", "1.0"), testCase("C", "b", "5.0"), testCase("C", "c", "20.0"));
+            DurationHistory history = DurationHistory.load(dir);
+            Assert.assertFalse(history.knows("C", "new"));
+            Assert.assertEquals(history.estimate("C", "new", 30), 5.0);
+        } finally {
+            delete(dir);
+        }
+    }
+
+    private static ShardPlanner.TestMethod method(String name, double seconds) {
+        return new ShardPlanner.TestMethod("C", name, seconds);
+    }
+
+    private static List<String> names(ShardPlanner.Shard shard) {
+        return shard.methods.stream().map(ShardPlanner.TestMethod::method).toList();
+    }
+
+    private static String testCase(String className, String name, String time) {
+        return "<testcase classname=\"" + className + "\" name=\"" + name + "\" time=\"" + time + "\"/>";
+    }
+
+    private static void report(Path dir, String file, long modifiedMillis, String... cases) throws IOException {
+        Path report = dir.resolve(file);
+        Files.writeString(report, "<testsuite>" + String.join("", cases) + "</testsuite>", StandardCharsets.UTF_8);
+        if (modifiedMillis > 0) {
+            Files.setLastModifiedTime(report, FileTime.fromMillis(modifiedMillis));
+        }
+    }
+
+    private static void delete(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.githubdemo.academia.sharding;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.openqa.selenium.json.Json;
+import org.testng.annotations.Test;
+import org.testng.xml.Parser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import com.githubdemo.academia.impact.ImpactSelector;
+import com.githubdemo.academia.sharding.ShardPlanner.Shard;
+import com.githubdemo.academia.sharding.ShardPlanner.TestMethod;
+
+// Splits the test methods of one or more TestNG suites into N duration-balanced shards and runs
+// each shard in its own forked JVM. Durations come from target/surefire-reports; every shard's
+// JUnit reports are copied back there so the next plan uses this run's timings. Results are merged
+// into target/shards/TEST-sharded.xml and the exit code is non-zero when anything failed.
+//
+//   ./mvnw -Pshards test-compile exec:exec -Dshards=4 [-Dshards.args="testng-academia.xml"]
+//   [-Dshards.jvmArgs="-Dbrowser.profile=lean -Dshards.gridJar=selenium-server-4.14.0.jar"]
+public final class ShardRunner {
+    private static final Path REPORTS = Paths.get(System.getProperty("shards.reports", "target/surefire-reports"));
+    private static final Path OUT = Paths.get(System.getProperty("shards.dir", "target/shards"));
+    private static final int SHARDS = Integer.getInteger("shards",
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    // One method at a time per JVM keeps each shard's wall time equal to its planned sum.
+    private static final int THREADS = Integer.getInteger("shards.threads", 1);
+    private static final double DEFAULT_SECONDS = Double.parseDouble(System.getProperty("shards.defaultSeconds", "30"));
+    // Settings the test JVMs read; forwarded to every fork as -D flags. Plain -Dimpact is not: the
+    // selection already happened here, the forks only keep recording dependencies (impact.*).
+    private static final List<String> FORWARDED = List.of("browser", "driver.", "drivers.", "navigation.",
+            "screenshots.", "waits.", "quiet.", "timings", "commands.", "steps.", "fixtures.", "auth.", "lean.",
+            "selenium.", "impact.", "wdm.");
+
+    private ShardRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> suiteFiles = args.length > 0 ? List.of(args)
+                : List.of("testng-best-practices.xml", "testng-academia.xml");
+        DurationHistory history = DurationHistory.load(REPORTS);
+        List<TestMethod> methods = discover(suiteFiles, history);
+        if (ImpactSelector.enabled()) {
+            ImpactSelector.Selection selection = ImpactSelector.select(
+                    methods.stream().map(method -> method.className() + "#" + method.method()).toList());
+            methods = methods.stream().filter(method -> selection.includes(method.className(), method.method())).toList();
+            if (methods.isEmpty()) {
+                System.out.println("[shards] no test methods selected; nothing to run");
+                System.exit(0);
+            }
+        }
+        List<Shard> shards = ShardPlanner.plan(methods, SHARDS);
+        Files.createDirectories(OUT);
+
+        Process grid = null;
+        String remoteUrl = System.getProperty("selenium.remoteUrl");
+        String gridJar = System.getProperty("shards.gridJar");
+        if (gridJar != null && remoteUrl == null) {
+            int port = Integer.getInteger("shards.gridPort", 4444);
+            grid = startGrid(gridJar, port, shards.size() * THREADS);
+            remoteUrl = "http://localhost:" + port;
+        }
+
+        int failed;
+        long start = System.nanoTime();
+        try {
+            List<Process> forks = new ArrayList<>();
+            for (Shard shard : shards) {
+                forks.add(fork(shard, remoteUrl));
+            }
+            int crashed = 0;
+            for (int i = 0; i < forks.size(); i++) {
+                // TestNG exits non-zero on failures and on skips, e.g. every test skipped by a failed @BeforeClass
+                int exit = forks.get(i).waitFor();
+                if (exit != 0) {
+                    System.err.printf("[shards] shard %d exited with %d; see %s%n", shards.get(i).index, exit,
+                            OUT.resolve("shard-" + shards.get(i).index).resolve("output.log"));
+                    crashed++;
+                }
+            }
+            double wallSeconds = (System.nanoTime() - start) / 1e9;
+            failed = merge(shards, wallSeconds) + crashed;
+            report(shards, wallSeconds);
+        } finally {
+            if (grid != null) {
+                grid.destroy();
+            }
+        }
+        System.exit(failed == 0 ? 0 : 1);
+    }
+
+    private static List<TestMethod> discover(List<String> suiteFiles, DurationHistory history) throws IOException {
+        Set<String> seen = new LinkedHashSet<>();
+        List<TestMethod> methods = new ArrayList<>();
+        for (String suiteFile : suiteFiles) {
+            for (XmlSuite suite : new Parser(suiteFile).parseToList()) {
+                for (XmlTest test : suite.getTests()) {
+                    for (XmlClass xmlClass : test.getXmlClasses()) {
+                        for (String method : methodsOf(xmlClass)) {
+                            if (seen.add(xmlClass.getName() + "#" + method)) {
+                                methods.add(new TestMethod(xmlClass.getName(), method,
+                                        history.estimate(xmlClass.getName(), method, DEFAULT_SECONDS)));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        long known = methods.stream().filter(m -> history.knows(m.className(), m.method())).count();
+        System.out.printf("[shards] %d test methods, %d with recorded durations in %s%n", methods.size(), known, REPORTS);
+        return methods;
+    }
+
+    private static List<String> methodsOf(XmlClass xmlClass) {
+        if (!xmlClass.getIncludedMethods().isEmpty()) {
+            return xmlClass.getIncludedMethods().stream().map(XmlInclude::getName).toList();
+        }
+        try {
+            // no initialisation: static state (pools, shutdown hooks) belongs in the forks only
+            Class<?> type = Class.forName(xmlClass.getName(), false, ShardRunner.class.getClassLoader());
+            List<String> names = new ArrayList<>();
+            for (Method method : type.getMethods()) {
+                if (method.isAnnotationPresent(Test.class)) {
+                    names.add(method.getName());
+                }
+            }
+            return names;
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown test class " + xmlClass.getName(), e);
+        }
+    }
+
+    private static Process fork(Shard shard, String remoteUrl) throws IOException {
+        Path dir = OUT.resolve("shard-" + shard.index);
+        // a fork that dies before writing reports must not leave the previous run's to be merged
+        deleteRecursively(dir);
+        Files.createDirectories(dir);
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Shard" + shard.index);
+        suite.setParallel(XmlSuite.ParallelMode.METHODS);
+        suite.setThreadCount(THREADS);
+        XmlTest test = new XmlTest(suite);
+        test.setName("Shard" + shard.index + "Tests");
+        Map<String, List<XmlInclude>> includes = new LinkedHashMap<>();
+        for (TestMethod method : shard.methods) {
+            includes.computeIfAbsent(method.className(), name -> new ArrayList<>()).add(new XmlInclude(method.method()));
+        }
+        List<XmlClass> classes = new ArrayList<>();
+        includes.forEach((name, methods) -> {
+            XmlClass xmlClass = new XmlClass(name, false);
+            xmlClass.setIncludedMethods(methods);
+            classes.add(xmlClass);
+        });
+        test.setXmlClasses(classes);
+        Path suiteFile = dir.resolve("testng-shard.xml");
+        Files.writeString(suiteFile, suite.toXml(), StandardCharsets.UTF_8);
+
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> FORWARDED.stream().anyMatch(name::startsWith))
+                .forEach(name -> command.add("-D" + name + "=" + System.getProperty(name)));
+        if (remoteUrl != null) {
+            command.add("-Dselenium.remoteUrl=" + remoteUrl);
+        }
+        // per-shard artifact folders so forks do not overwrite each other's summaries
+        command.add("-Dtimings.dir=" + dir.resolve("timings"));
+        command.add("-Dcommands.dir=" + dir.resolve("commands"));
+        command.add("org.testng.TestNG");
+        command.add("-d");
+        command.add(dir.toString());
+        command.add(suiteFile.toString());
+
+        System.out.printf("[shards] shard %d: %d methods, expected %.1fs%n", shard.index, shard.methods.size(),
+                shard.expectedSeconds);
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(dir.resolve("output.log").toFile())
+                .start();
+    }
+
+    // Starts a Selenium Grid standalone node sized for every shard thread and waits until it is ready.
+    private static Process startGrid(String jar, int port, int sessions) throws IOException, InterruptedException {
+        Path log = OUT.resolve("grid.log");
+        Files.createDirectories(OUT);
+        Process grid = new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-jar", jar, "standalone", "--port", String.valueOf(port), "--max-sessions", String.valueOf(sessions),
+                "--override-max-sessions", "true")
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest status = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/status")).build();
+        long deadline = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+        while (System.nanoTime() < deadline && grid.isAlive()) {
+            try {
+                String body = client.send(status, HttpResponse.BodyHandlers.ofString()).body();
+                Map<String, Object> json = new Json().toType(body, Json.MAP_TYPE);
+                if (json.get("value") instanceof Map<?, ?> value && Boolean.TRUE.equals(value.get("ready"))) {
+                    System.out.printf("[shards] grid ready on port %d (%d sessions)%n", port, sessions);
+                    return grid;
+                }
+            } catch (IOException notUpYet) {
+                // keep polling until the deadline
+            }
+            Thread.sleep(500);
+        }
+        grid.destroy();
+        throw new IllegalStateException("Selenium Grid did not become ready; see " + log);
+    }
+
+    // Copies shard reports into the history folder and writes one merged JUnit report.
+    private static int merge(List<Shard> shards, double wallSeconds) throws Exception {
+        Files.createDirectories(REPORTS);
+        DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        Document merged = builder.newDocument();
+        Element root = merged.createElement("testsuite");
+        root.setAttribute("name", "sharded");
+        merged.appendChild(root);
+        int tests = 0;
+        int failures = 0;
+        int errors = 0;
+        int skipped = 0;
+        for (Shard shard : shards) {
+            Path junit = OUT.resolve("shard-" + shard.index).resolve("junitreports");
+            if (!Files.isDirectory(junit)) {
+                System.err.printf("[shards] shard %d produced no reports; see %s%n", shard.index,
+                        OUT.resolve("shard-" + shard.index).resolve("output.log"));
+                failures++;
+                continue;
+            }
+            List<Path> reports;
+            try (Stream<Path> files = Files.list(junit)) {
+                reports = files.filter(file -> file.getFileName().toString().endsWith(".xml")).toList();
+            }
+            for (Path report : reports) {
+                String name = report.getFileName().toString().replaceFirst("\\.xml$", "");
+                Files.copy(report, REPORTS.resolve(name + "-shard" + shard.index + ".xml"),
+                        StandardCopyOption.REPLACE_EXISTING);
+                NodeList cases = builder.parse(report.toFile()).getElementsByTagName("testcase");
+                for (int i = 0; i < cases.getLength(); i++) {
+                    Element testCase = (Element) merged.importNode(cases.item(i), true);
+                    testCase.setAttribute("shard", String.valueOf(shard.index));
+                    root.appendChild(testCase);
+                    tests++;
+                    failures += count(testCase, "failure");
+                    errors += count(testCase, "error");
+                    skipped += count(testCase, "skipped");
+                }
+            }
+        }
+        root.setAttribute("tests", String.valueOf(tests));
+        root.setAttribute("failures", String.valueOf(failures));
+        root.setAttribute("errors", String.valueOf(errors));
+        root.setAttribute("skipped", String.valueOf(skipped));
+        root.setAttribute("time", String.format("%.3f", wallSeconds));
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        File mergedFile = OUT.resolve("TEST-sharded.xml").toFile();
+        transformer.transform(new DOMSource(merged), new StreamResult(mergedFile));
+        System.out.printf("[shards] merged %d tests (%d failures, %d errors, %d skipped) into %s%n",
+                tests, failures, errors, skipped, mergedFile);
+        // nothing in this suite skips on purpose: a skip means a configuration method failed
+        return failures + errors + skipped;
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static int count(Element testCase, String child) {
+        int count = 0;
+        for (Node node = testCase.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (child.equals(node.getNodeName())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Speed-up = summed test time / wall time; close to the shard count when the plan was balanced.
+    private static void report(List<Shard> shards, double wallSeconds) {
+        DurationHistory actual = DurationHistory.load(REPORTS);
+        double summed = 0;
+        for (Shard shard : shards) {
+            double shardSeconds = 0;
+            for (TestMethod method : shard.methods) {
+                shardSeconds += actual.estimate(method.className(), method.method(), method.expectedSeconds());
+            }
+            summed += shardSeconds;
+            System.out.printf("[shards] shard %d: expected %.1fs, actual %.1fs%n", shard.index, shard.expectedSeconds,
+                    shardSeconds);
+        }
+        System.out.printf("[shards] wall %.1fs for %.1fs of tests: speed-up %.2fx on %d shards%n", wallSeconds, summed,
+                summed / wallSeconds, shards.size());
+    }
+}